@@ -1,15 +1,12 @@
 package com.springboot.gotgam.config;
 
-import com.fasterxml.jackson.annotation.JsonAutoDetect;
-import com.fasterxml.jackson.annotation.PropertyAccessor;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.springboot.gotgam.dto.tourspot.TourSpotDetailDto;
+import com.springboot.gotgam.service.TourSpotDetailCache;
+import com.springboot.gotgam.service.TourSpotDetailSingleFlight;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.http.MediaType;
 import org.springframework.web.client.RestTemplate;
 
@@ -30,23 +27,16 @@ public class AppConfig {
         return restTemplate;
     }
 
+    // 관광지 상세 조회 완료 알림(대기 요청을 바로 깨움), 상세 캐시 무효화 알림(L1 제거) 구독
     @Bean
-    public RedisTemplate<String, TourSpotDetailDto> tourSpotDetailRedisTemplate(RedisConnectionFactory connectionFactory) {
-        RedisTemplate<String, TourSpotDetailDto> template = new RedisTemplate<>();
-        template.setConnectionFactory(connectionFactory);
-
-        Jackson2JsonRedisSerializer<TourSpotDetailDto> serializer = new Jackson2JsonRedisSerializer<>(TourSpotDetailDto.class);
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
-        objectMapper.enableDefaultTyping(ObjectMapper.DefaultTyping.NON_FINAL); // 다형성 지원
-
-        serializer.setObjectMapper(objectMapper);
-
-
-        template.setValueSerializer(serializer);
-        template.setKeySerializer(new StringRedisSerializer());
-        template.afterPropertiesSet();
-        return template;
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TourSpotDetailSingleFlight tourSpotDetailSingleFlight,
+                                                                       TourSpotDetailCache tourSpotDetailCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tourSpotDetailSingleFlight, new ChannelTopic(TourSpotDetailSingleFlight.CHANNEL));
+        container.addMessageListener(tourSpotDetailCache, new ChannelTopic(TourSpotDetailCache.INVALIDATE_CHANNEL));
+        return container;
     }
 
 }
\ No newline at end of file
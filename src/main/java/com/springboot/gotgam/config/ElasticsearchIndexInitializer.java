@@ -1,28 +1,58 @@
 package com.springboot.gotgam.config;
 
 import com.springboot.gotgam.entity.elasticsearch.Diary;
+import com.springboot.gotgam.entity.elasticsearch.TourSpots;
+import com.springboot.gotgam.schedule.DiaryBackfillSchedule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
 
 
 @RequiredArgsConstructor
 @Configuration
 @Slf4j
 public class ElasticsearchIndexInitializer {
+    // 가까운 관광지 목록은 조회 전용이므로 색인하지 않음
+    private static final String TOUR_SPOT_EXTRA_MAPPING = """
+            {"properties": {
+              "near_spots": {"type": "object", "enabled": false},
+              "near_spots_updated": {"type": "date", "format": "date_hour_minute_second"}
+            }}""";
+
     private final ElasticsearchOperations elasticsearchOperations;
+    private final DiaryBackfillSchedule diaryBackfillSchedule;
 
     @EventListener(ApplicationReadyEvent.class)
     public void createIndex() {
-        boolean diaryIndexExists = elasticsearchOperations.indexOps(Diary.class).exists();
+        IndexOperations diaryIndexOps = elasticsearchOperations.indexOps(Diary.class);
+        boolean diaryIndexExists = diaryIndexOps.exists();
 
         if (!diaryIndexExists) {
             log.info("Diary not exists");
         }else {
             log.info("Diary already exists");
+            // 엔티티에 추가된 필드 매핑 반영 (기존 필드는 그대로 유지)
+            try {
+                diaryIndexOps.putMapping();
+            } catch (Exception e) {
+                log.error("Diary mapping update failed: {}", e.getMessage());
+            }
+            diaryBackfillSchedule.backfillAll();
+        }
+
+        // 관광지 인덱스는 외부에서 생성하므로 추가 필드만 매핑
+        IndexOperations tourSpotIndexOps = elasticsearchOperations.indexOps(TourSpots.class);
+        if (tourSpotIndexOps.exists()) {
+            try {
+                tourSpotIndexOps.putMapping(Document.parse(TOUR_SPOT_EXTRA_MAPPING));
+            } catch (Exception e) {
+                log.error("TourSpots mapping update failed: {}", e.getMessage());
+            }
         }
     }
 }
@@ -1,6 +1,7 @@
 package com.springboot.gotgam.controller;
 
 import com.springboot.gotgam.dto.BanReqDto;
+import com.springboot.gotgam.dto.SearchProfileDto;
 import com.springboot.gotgam.dto.Auth.MemberResDto;
 import com.springboot.gotgam.dto.report.ReportManageReq;
 import com.springboot.gotgam.dto.report.ReportResDto;
@@ -24,6 +25,7 @@ import java.util.Map;
 public class AdminController {
     private final AdminService adminService;
     private final ReportService reportService;
+    private final SearchProfileService searchProfileService;
 
     // 멤버 조회
     @GetMapping("/member-list")
@@ -80,4 +82,29 @@ public class AdminController {
         List<Integer> signupCounts = adminService.getMonthlyStats(type, year);
         return ResponseEntity.ok(signupCounts);
     }
+
+    // 다이어리 검색 쿼리 분석 (ES profile, 파라미터는 /search/diary-list와 동일)
+    @GetMapping("/search-profile/diary")
+    public ResponseEntity<SearchProfileDto> profileDiarySearch(@RequestParam(defaultValue = "0") int page,
+                                                               @RequestParam(defaultValue = "20") int size,
+                                                               @RequestParam(required = false) String keyword,
+                                                               @RequestParam(required = false) String sort,
+                                                               @RequestParam(defaultValue = "0") int minPrice,
+                                                               @RequestParam(defaultValue = "0") int maxPrice,
+                                                               @RequestParam(required = false) String areaCode,
+                                                               @RequestParam(required = false) String sigunguCode) {
+        return ResponseEntity.ok(searchProfileService.profileDiarySearch(page, size, keyword, sort, minPrice, maxPrice, areaCode, sigunguCode));
+    }
+
+    // 관광지 검색 쿼리 분석 (ES profile, 파라미터는 /search/tour-list와 동일)
+    @GetMapping("/search-profile/tour")
+    public ResponseEntity<SearchProfileDto> profileTourSpotSearch(@RequestParam(defaultValue = "0") int page,
+                                                                  @RequestParam(defaultValue = "20") int size,
+                                                                  @RequestParam(required = false) String sort,
+                                                                  @RequestParam(required = false) String keyword,
+                                                                  @RequestParam(required = false) String areaCode,
+                                                                  @RequestParam(required = false) String sigunguCode,
+                                                                  @RequestParam(required = false) String contentTypeId) {
+        return ResponseEntity.ok(searchProfileService.profileTourSpotSearch(page, size, sort, keyword, areaCode, sigunguCode, contentTypeId));
+    }
 }
@@ -1,17 +1,31 @@
 package com.springboot.gotgam.controller;
 
+import com.springboot.gotgam.dto.CursorPageDto;
+import com.springboot.gotgam.dto.FacetBucketDto;
+import com.springboot.gotgam.dto.TrendingKeywordDto;
+import com.springboot.gotgam.dto.tourspot.MapClusterDto;
 import com.springboot.gotgam.dto.tourspot.TourSpotDetailDto;
 import com.springboot.gotgam.dto.diary.DiarySearchListDto;
 import com.springboot.gotgam.dto.tourspot.TourSpotListDto;
+import com.springboot.gotgam.service.MapSearchService;
+import com.springboot.gotgam.service.ReactiveSearchService;
 import com.springboot.gotgam.service.SearchService;
+import com.springboot.gotgam.service.SearchTrendService;
+import com.springboot.gotgam.service.TagIndexService;
 import com.springboot.gotgam.service.TourSpotService;
+import com.springboot.gotgam.service.TourSpotSuggestService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.List;
 import java.util.Map;
 
@@ -21,29 +35,134 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SearchController {
     private final SearchService searchService;
+    private final ReactiveSearchService reactiveSearchService;
     private final TourSpotService tourSpotService;
+    private final TourSpotSuggestService tourSpotSuggestService;
+    private final MapSearchService mapSearchService;
+    private final SearchTrendService searchTrendService;
+    private final TagIndexService tagIndexService;
 
     @GetMapping("/diary-list")
-    public ResponseEntity<Page<DiarySearchListDto>> getDiaryList(@RequestParam(defaultValue = "0") int page,
-                                                                 @RequestParam(defaultValue = "20") int size,
-                                                                 @RequestParam(required = false) String keyword,
-                                                                 @RequestParam(required = false) String sort,
-                                                                 @RequestParam(defaultValue = "0") int minPrice,
-                                                                 @RequestParam(defaultValue = "0") int maxPrice,
-                                                                 @RequestParam(required = false) String areaCode,
-                                                                 @RequestParam(required = false) String sigunguCode) {
-        return new ResponseEntity<>(searchService.diarySearch(page, size, keyword, sort, minPrice, maxPrice, areaCode, sigunguCode), HttpStatus.OK);
+    public Mono<ResponseEntity<Page<DiarySearchListDto>>> getDiaryList(@RequestParam(defaultValue = "0") int page,
+                                                                       @RequestParam(defaultValue = "20") int size,
+                                                                       @RequestParam(required = false) String keyword,
+                                                                       @RequestParam(required = false) String sort,
+                                                                       @RequestParam(defaultValue = "0") int minPrice,
+                                                                       @RequestParam(defaultValue = "0") int maxPrice,
+                                                                       @RequestParam(required = false) String areaCode,
+                                                                       @RequestParam(required = false) String sigunguCode,
+                                                                       @RequestParam(required = false) String fields,
+                                                                       @RequestParam(defaultValue = "false") boolean facets,
+                                                                       HttpServletRequest request) {
+        if (page == 0) {
+            searchTrendService.record("diary", keyword, searcherOf(request));
+        }
+        return reactiveSearchService.diarySearch(page, size, keyword, sort, minPrice, maxPrice, areaCode, sigunguCode, fields, facets)
+                .map(ResponseEntity::ok);
+    }
+
+    // 다이어리 필터별 건수만 조회 (목록 없이)
+    @GetMapping("/diary-facets")
+    public ResponseEntity<Map<String, List<FacetBucketDto>>> getDiaryFacets(@RequestParam(required = false) String keyword,
+                                                                            @RequestParam(defaultValue = "0") int minPrice,
+                                                                            @RequestParam(defaultValue = "0") int maxPrice,
+                                                                            @RequestParam(required = false) String areaCode,
+                                                                            @RequestParam(required = false) String sigunguCode) {
+        return ResponseEntity.ok(searchService.getDiaryFacets(keyword, minPrice, maxPrice, areaCode, sigunguCode));
+    }
+
+    // 커서 기반 다이어리 목록 (무한 스크롤, 첫 요청은 cursor= 로 전달)
+    @GetMapping(value = "/diary-list", params = "cursor")
+    public ResponseEntity<CursorPageDto<DiarySearchListDto>> getDiaryListByCursor(@RequestParam String cursor,
+                                                                                  @RequestParam(defaultValue = "20") int size,
+                                                                                  @RequestParam(required = false) String keyword,
+                                                                                  @RequestParam(required = false) String sort,
+                                                                                  @RequestParam(defaultValue = "0") int minPrice,
+                                                                                  @RequestParam(defaultValue = "0") int maxPrice,
+                                                                                  @RequestParam(required = false) String areaCode,
+                                                                                  @RequestParam(required = false) String sigunguCode,
+                                                                                  @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(searchService.diarySearchByCursor(cursor, size, keyword, sort, minPrice, maxPrice, areaCode, sigunguCode, fields));
     }
 
     @GetMapping("/tour-list")
-    public ResponseEntity<Page<TourSpotListDto>> findTourSpotList(@RequestParam(defaultValue = "0") int page,
-                                                                  @RequestParam(defaultValue = "20") int size,
-                                                                  @RequestParam(required = false) String sort,
-                                                                  @RequestParam(required = false) String keyword,
-                                                                  @RequestParam(required = false) String areaCode,
-                                                                  @RequestParam(required = false) String sigunguCode,
-                                                                  @RequestParam(required = false) String contentTypeId) {
-        return new ResponseEntity<>(searchService.searchTourSpots(page, size, sort, keyword, areaCode, sigunguCode, contentTypeId), HttpStatus.OK);
+    public Mono<ResponseEntity<Page<TourSpotListDto>>> findTourSpotList(@RequestParam(defaultValue = "0") int page,
+                                                                        @RequestParam(defaultValue = "20") int size,
+                                                                        @RequestParam(required = false) String sort,
+                                                                        @RequestParam(required = false) String keyword,
+                                                                        @RequestParam(required = false) String areaCode,
+                                                                        @RequestParam(required = false) String sigunguCode,
+                                                                        @RequestParam(required = false) String contentTypeId,
+                                                                        @RequestParam(required = false) String fields,
+                                                                        @RequestParam(defaultValue = "false") boolean facets,
+                                                                        HttpServletRequest request) {
+        if (page == 0) {
+            searchTrendService.record("tour", keyword, searcherOf(request));
+        }
+        return reactiveSearchService.searchTourSpots(page, size, sort, keyword, areaCode, sigunguCode, contentTypeId, fields, facets)
+                .map(ResponseEntity::ok);
+    }
+
+    // 관광지 필터별 건수만 조회 (목록 없이)
+    @GetMapping("/tour-facets")
+    public ResponseEntity<Map<String, List<FacetBucketDto>>> getTourFacets(@RequestParam(required = false) String keyword,
+                                                                           @RequestParam(required = false) String areaCode,
+                                                                           @RequestParam(required = false) String sigunguCode,
+                                                                           @RequestParam(required = false) String contentTypeId) {
+        return ResponseEntity.ok(searchService.getTourSpotFacets(keyword, areaCode, sigunguCode, contentTypeId));
+    }
+
+    // 커서 기반 관광지 목록 (무한 스크롤, 첫 요청은 cursor= 로 전달)
+    @GetMapping(value = "/tour-list", params = "cursor")
+    public ResponseEntity<CursorPageDto<TourSpotListDto>> findTourSpotListByCursor(@RequestParam String cursor,
+                                                                                   @RequestParam(defaultValue = "20") int size,
+                                                                                   @RequestParam(required = false) String sort,
+                                                                                   @RequestParam(required = false) String keyword,
+                                                                                   @RequestParam(required = false) String areaCode,
+                                                                                   @RequestParam(required = false) String sigunguCode,
+                                                                                   @RequestParam(required = false) String contentTypeId,
+                                                                                   @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(searchService.searchTourSpotsByCursor(cursor, size, sort, keyword, areaCode, sigunguCode, contentTypeId, fields));
+    }
+
+    // 최근 N시간 인기 검색어 (type: diary, tour)
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingKeywordDto>> getTrendingKeywords(@RequestParam(defaultValue = "diary") String type,
+                                                                        @RequestParam(defaultValue = "24") int hours,
+                                                                        @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(searchTrendService.getTrending(type, hours, Math.min(size, 50)));
+    }
+
+    // 태그 자동완성 (사용 수 순)
+    @GetMapping("/tags/suggest")
+    public ResponseEntity<List<FacetBucketDto>> suggestTags(@RequestParam String q,
+                                                            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(tagIndexService.suggest(q, Math.min(size, 20)));
+    }
+
+    // 연관 태그 (함께 가장 많이 쓰인 태그)
+    @GetMapping("/tags/related")
+    public ResponseEntity<List<FacetBucketDto>> getRelatedTags(@RequestParam String tag,
+                                                               @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(tagIndexService.getRelatedTags(tag, Math.min(size, 20)));
+    }
+
+    // 관광지 제목 자동완성 (메모리 색인 조회, 초성 검색 지원)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<TourSpotListDto>> suggestTourSpots(@RequestParam String q,
+                                                                  @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(tourSpotSuggestService.suggest(q, Math.min(size, 20)));
+    }
+
+    // 지도 화면 관광지 묶음 마커 (화면 영역 + 확대 수준)
+    @GetMapping("/map")
+    public ResponseEntity<List<MapClusterDto>> getMapClusters(@RequestParam double top,
+                                                              @RequestParam double left,
+                                                              @RequestParam double bottom,
+                                                              @RequestParam double right,
+                                                              @RequestParam int zoom,
+                                                              @RequestParam(required = false) String contentTypeId) {
+        return ResponseEntity.ok(mapSearchService.getClusters(top, left, bottom, right, zoom, contentTypeId));
     }
 
     @GetMapping("/spot-detail")
@@ -75,10 +194,32 @@ public class SearchController {
         return ResponseEntity.ok(searchService.getBookmarkedDiaries(userId, page, size));
     }
 
+    // 내가 북마크한 다이어리 목록 (커서 기반, 첫 요청은 cursor= 로 전달)
+    @GetMapping(value = "/my-bookmarked-diaries", params = "cursor")
+    public ResponseEntity<CursorPageDto<DiarySearchListDto>> getBookmarkedDiariesByCursor(@RequestParam String userId, @RequestParam String cursor, @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchService.getBookmarkedDiariesByCursor(userId, cursor, size));
+    }
+
     // 내가 북마크한 관광지 목록 조회
     @GetMapping("/my-bookmarked-tourspots")
     public ResponseEntity<Page<TourSpotListDto>> getBookmarkedTourSpots(@RequestParam String userId, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
         return ResponseEntity.ok(searchService.getBookmarkedTourSpots(userId, page, size));
     }
 
+    // 내가 북마크한 관광지 목록 (커서 기반, 첫 요청은 cursor= 로 전달)
+    @GetMapping(value = "/my-bookmarked-tourspots", params = "cursor")
+    public ResponseEntity<CursorPageDto<TourSpotListDto>> getBookmarkedTourSpotsByCursor(@RequestParam String userId, @RequestParam String cursor, @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchService.getBookmarkedTourSpotsByCursor(userId, cursor, size));
+    }
+
+    // 검색한 사람 구분값 (로그인 시 회원 ID, 아니면 IP)
+    // X-Forwarded-For는 클라이언트가 마음대로 바꿀 수 있으므로 직접 읽지 않고, 신뢰하는 프록시의 값만 서버 설정(server.forward-headers-strategy)으로 반영
+    private static String searcherOf(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "member:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
 }
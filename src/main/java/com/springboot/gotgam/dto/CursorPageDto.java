@@ -0,0 +1,19 @@
+package com.springboot.gotgam.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// 커서(search_after) 기반 무한 스크롤 응답
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageDto<T> {
+    private List<T> content; // 현재 페이지 데이터
+    private int size; // 요청한 페이지 크기
+    private boolean hasNext; // 다음 페이지 존재 여부
+    private String nextCursor; // 다음 페이지 요청 시 전달할 커서 (없으면 null)
+}
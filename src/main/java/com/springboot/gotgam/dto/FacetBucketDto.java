@@ -0,0 +1,14 @@
+package com.springboot.gotgam.dto;
+
+import lombok.*;
+
+// 검색 필터 항목별 건수 (지역, 분류, 경비 구간 등)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetBucketDto {
+    private String key; // 필터 값 (코드 또는 구간명)
+    private long count; // 해당 값의 문서 수
+}
@@ -0,0 +1,65 @@
+package com.springboot.gotgam.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 결과 페이지
+ * 기존 Page 응답 형식을 그대로 유지하면서 검색 부가 정보(필터별 건수, 전체 건수 정확도, 추천 검색어)를 함께 내려줍니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SearchPageDto<T> extends PageImpl<T> {
+    private final Map<String, List<FacetBucketDto>> facets; // 필터 항목별 건수 (요청 시에만)
+    private final boolean totalExact; // false면 totalElements는 하한값 (실제 건수는 그 이상)
+    private final List<String> suggestions; // 결과가 없을 때 추천 검색어 (오타 교정)
+    private final String correctedKeyword; // 추천 검색어로 다시 검색한 경우 사용한 검색어
+
+    public SearchPageDto(List<T> content, Pageable pageable, long total, Map<String, List<FacetBucketDto>> facets) {
+        this(content, pageable, total, true, facets);
+    }
+
+    public SearchPageDto(List<T> content, Pageable pageable, long total, boolean totalExact,
+                         Map<String, List<FacetBucketDto>> facets) {
+        this(content, pageable, total, totalExact, facets, null, null);
+    }
+
+    public SearchPageDto(List<T> content, Pageable pageable, long total, boolean totalExact,
+                         Map<String, List<FacetBucketDto>> facets, List<String> suggestions, String correctedKeyword) {
+        super(content, pageable, total);
+        this.totalExact = totalExact;
+        this.facets = facets;
+        this.suggestions = suggestions;
+        this.correctedKeyword = correctedKeyword;
+    }
+
+    // 추천 검색어로 다시 검색한 결과에 원래 검색의 추천 목록과 교정된 검색어를 붙임
+    public SearchPageDto<T> withCorrection(String correctedKeyword, List<String> suggestions) {
+        return new SearchPageDto<>(getContent(), getPageable(), getTotalElements(), totalExact, facets,
+                suggestions, correctedKeyword);
+    }
+
+    public Map<String, List<FacetBucketDto>> getFacets() {
+        return facets;
+    }
+
+    public boolean isTotalExact() {
+        return totalExact;
+    }
+
+    public List<String> getSuggestions() {
+        return suggestions;
+    }
+
+    public String getCorrectedKeyword() {
+        return correctedKeyword;
+    }
+
+    // 화면 표시용 건수 (ex. 128, 10,000+)
+    public String getTotalLabel() {
+        return String.format("%,d", getTotalElements()) + (totalExact ? "" : "+");
+    }
+}
@@ -0,0 +1,48 @@
+package com.springboot.gotgam.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+// ES profile API 결과 (관리자용 검색 쿼리 분석)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchProfileDto {
+    private String index; // 대상 인덱스
+    private String query; // 실행한 쿼리 JSON
+    private long tookMs; // ES가 보고한 전체 소요 시간
+    private long totalHits; // 검색 결과 수
+    private List<ShardProfile> shards; // 샤드별 분석 결과
+
+    @Getter
+    @Setter
+    @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ShardProfile {
+        private String shardId; // [노드][인덱스][샤드 번호]
+        private double rewriteTimeMs; // 쿼리 재작성 시간
+        private double collectorTimeMs; // 결과 수집 시간
+        private List<ClauseProfile> queries; // 쿼리 절별 소요 시간 (트리)
+    }
+
+    @Getter
+    @Setter
+    @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ClauseProfile {
+        private String type; // Lucene 쿼리 종류 (BooleanQuery, TermQuery 등)
+        private String description; // 쿼리 절 (ex. title.ngram:경복)
+        private double timeMs; // 하위 절 포함 소요 시간
+        private Map<String, Long> breakdown; // 단계별 소요 시간 (나노초)
+        private List<ClauseProfile> children; // 하위 절
+    }
+}
@@ -0,0 +1,15 @@
+package com.springboot.gotgam.dto;
+
+import lombok.*;
+
+// 인기 검색어
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingKeywordDto {
+    private String keyword; // 정규화된 검색어
+    private long count; // 조회 기간 내 검색 횟수
+    private long searchers; // 조회 기간 내 검색한 사람 수 (HyperLogLog 추정치)
+}
@@ -0,0 +1,18 @@
+package com.springboot.gotgam.dto.tourspot;
+
+import lombok.*;
+
+// 지도 화면의 관광지 묶음 마커 (geotile 격자 단위)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MapClusterDto {
+    private String tile; // 격자 키 (zoom/x/y)
+    private long count; // 격자 안의 관광지 수
+    private double lat; // 마커 위치 (격자 안 관광지들의 중심점)
+    private double lon;
+    private TourSpotListDto spot; // 대표 관광지 (북마크 수 최다)
+}
@@ -2,6 +2,8 @@ package com.springboot.gotgam.entity.elasticsearch;
 
 import lombok.Builder;
 import lombok.Data;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.*;
 
@@ -15,6 +17,9 @@ import java.util.Set;
 @Data // getter, setter, toString, equals, hashCode 등을 자동 생성
 @Document(indexName = "diary") // Elasticsearch의 diary라는 인덱스에 저장
 public class Diary {
+    // 목록 요약 최대 길이
+    public static final int CONTENT_SUMMARY_MAX_LENGTH = 150;
+
     // 다이어리 구분자(자동 생성)
     @Id
     private String id;
@@ -39,6 +44,16 @@ public class Diary {
     @Field(type = FieldType.Keyword, name = "member_id")
     private Long memberId;
 
+    // 작성자 정보 스냅샷 (목록/상세 조회 시 MySQL 조회 없이 사용, 프로필 변경 시 비동기 갱신)
+    @Field(type = FieldType.Keyword, name = "writer_user_id")
+    private String writerUserId;
+
+    @Field(type = FieldType.Keyword, name = "writer_nickname")
+    private String writerNickname;
+
+    @Field(type = FieldType.Keyword, name = "writer_img", index = false)
+    private String writerImg;
+
     // 지역(코드 대신 직접 텍스트로)
     @MultiField(
             mainField = @Field(type = FieldType.Text, analyzer = "nori_analyzer_with_stopwords"),
@@ -77,6 +92,18 @@ public class Diary {
     )
     private String content;
 
+    // HTML 태그를 제거한 본문 (작성/수정 시 계산, 키워드 검색 대상)
+    @Field(type = FieldType.Text, name = "plain_content", analyzer = "nori_analyzer_with_stopwords")
+    private String plainContent;
+
+    // 목록용 내용 요약 (작성/수정 시 계산, 검색 대상 아님)
+    @Field(type = FieldType.Text, name = "content_summary", index = false)
+    private String contentSummary;
+
+    // 목록용 썸네일 - 본문 첫 번째 이미지 (작성/수정 시 계산, 검색 대상 아님)
+    @Field(type = FieldType.Text, index = false)
+    private String thumbnail;
+
     // 공개 여부
     @Field(type = FieldType.Boolean, name = "is_public")
     private boolean isPublic;
@@ -85,16 +112,27 @@ public class Diary {
     @Field(type = FieldType.Float, name = "bookmark_count")
     private int bookmarkCount;
 
-    // 시도코드
-    @Field(type = FieldType.Text, name = "area_code")
+    // 시도코드 (필터별 건수 집계는 area_code.keyword로 접근)
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, name = "area_code"),
+            otherFields = {
+                    @InnerField(type = FieldType.Keyword, suffix = "keyword")
+            }
+    )
     private String areaCode;
 
-    // 시군구 코드
-    @Field(type = FieldType.Text, name = "sigungu_code")
+    // 시군구 코드 (필터별 건수 집계는 sigungu_code.keyword로 접근)
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, name = "sigungu_code"),
+            otherFields = {
+                    @InnerField(type = FieldType.Keyword, suffix = "keyword")
+            }
+    )
     private String sigunguCode;
 
     @Builder
-    private Diary(String diaryId, String title, String region, String areaCode, String sigunguCode, LocalDate startDate, LocalDate endDate, List<String> tags, Integer totalCost, String content, Long memberId, boolean isPublic) {
+    private Diary(String diaryId, String title, String region, String areaCode, String sigunguCode, LocalDate startDate, LocalDate endDate, List<String> tags, Integer totalCost, String content, Long memberId, boolean isPublic,
+                  String writerUserId, String writerNickname, String writerImg) {
         this.diaryId = diaryId;
         this.title = title;
         this.region = region;
@@ -107,6 +145,28 @@ public class Diary {
         this.content = content;
         this.memberId = memberId;
         this.isPublic = isPublic;
+        this.writerUserId = writerUserId;
+        this.writerNickname = writerNickname;
+        this.writerImg = writerImg;
         createdTime = LocalDateTime.now();
+        applyContentDerivedFields();
+    }
+
+    // 본문(HTML)을 한 번만 파싱해서 평문, 요약, 썸네일 필드를 채움
+    public void applyContentDerivedFields() {
+        if (content == null || content.isEmpty()) {
+            plainContent = "";
+            contentSummary = "";
+            thumbnail = null;
+            return;
+        }
+
+        Element doc = Jsoup.parse(content);
+        plainContent = doc.text().trim();
+        contentSummary = plainContent.length() <= CONTENT_SUMMARY_MAX_LENGTH
+                ? plainContent
+                : plainContent.substring(0, CONTENT_SUMMARY_MAX_LENGTH) + "...";
+        Element img = doc.selectFirst("img");
+        thumbnail = img != null ? img.attr("src") : null;
     }
 }
@@ -129,6 +129,14 @@ public class TourSpots {
     @Field(type = FieldType.Float, name = "bookmark_count")
     private int bookmarkCount;
 
+    // 가까운 관광지 목록 (배치로 미리 계산, 조회 전용이라 색인하지 않음)
+    @Field(type = FieldType.Object, name = "near_spots", enabled = false)
+    private List<NearSpot> nearSpots;
+
+    // 가까운 관광지 계산 시각
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second, name = "near_spots_updated")
+    private LocalDateTime nearSpotsUpdated;
+
     // detail 필드는 여기서밖에 사용하지 않기 때문에 엔티티 내부에 정의함
     @Data
     public static class Detail {
@@ -157,6 +165,26 @@ public class TourSpots {
         private String homepage;
     }
 
+    @Data
+    public static class NearSpot {
+        @Field(type = FieldType.Keyword, name = "spot_id")
+        private String spotId;
+
+        @Field(type = FieldType.Keyword)
+        private String title;
+
+        @Field(type = FieldType.Keyword)
+        private String thumbnail;
+
+        public TourSpotListDto convertToSimpleDto() {
+            return TourSpotListDto.builder()
+                    .spotId(spotId)
+                    .title(title)
+                    .thumbnail(thumbnail)
+                    .build();
+        }
+    }
+
     public TourSpotListDto convertToListDto() {
         return TourSpotListDto.builder()
                 .spotId(contentId)
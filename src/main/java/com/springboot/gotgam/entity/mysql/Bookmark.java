@@ -7,7 +7,10 @@ import lombok.*;
 import javax.persistence.*;
 
 @Entity
-@Table(name = "bookmark")
+@Table(name = "bookmark", indexes = {
+        // 회원별 북마크 목록 keyset 조회용
+        @Index(name = "idx_bookmark_member_type_id", columnList = "member, type, id")
+})
 @ToString
 @Getter
 @Setter
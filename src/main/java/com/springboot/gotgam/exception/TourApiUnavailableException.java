@@ -0,0 +1,16 @@
+package com.springboot.gotgam.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 사용할 수 있는 TourAPI 키가 없을 때 발생하는 예외 (모든 키가 한도 초과 또는 서킷 오픈 상태)
+ * 특정 관광지가 아니라 키 풀 전체의 상태이므로 잠시 후 다시 시도해야 합니다.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class TourApiUnavailableException extends RuntimeException {
+
+    public TourApiUnavailableException(String message) {
+        super(message);
+    }
+}
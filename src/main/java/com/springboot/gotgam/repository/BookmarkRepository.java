@@ -24,4 +24,10 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
     Optional<Bookmark> findByMemberAndBookmarkedId(Member member, String bookmarkedId);
     List<Bookmark> findByMemberAndType(Member member, Type type);
+
+    // 북마크 목록 페이지 조회 (최근 북마크 순)
+    Page<Bookmark> findByMemberAndTypeOrderByIdDesc(Member member, Type type, Pageable pageable);
+
+    // 북마크 ID 기준 keyset 조회 (커서보다 오래된 북마크)
+    List<Bookmark> findByMemberAndTypeAndIdLessThanOrderByIdDesc(Member member, Type type, Long id, Pageable pageable);
 }
@@ -0,0 +1,146 @@
+package com.springboot.gotgam.schedule;
+
+import com.springboot.gotgam.entity.elasticsearch.Diary;
+import com.springboot.gotgam.entity.mysql.Member;
+import com.springboot.gotgam.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.elasticsearch.index.query.QueryBuilders.*;
+
+// 기존 다이어리 문서에 저장 시 계산 필드(평문, 요약, 썸네일, 작성자 스냅샷, 지역 코드 keyword)를 채워 넣는 백필 작업
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DiaryBackfillSchedule {
+    private static final int BULK_SIZE = 100;
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final MemberRepository memberRepository;
+
+    // 세 작업 모두 같은 다이어리 문서를 수정하므로 버전 충돌이 없도록 차례로 실행 (전체 재색인은 마지막)
+    @Async
+    public void backfillAll() {
+        backfillContentFields();
+        backfillWriterSnapshot();
+        reindexCodeKeywords();
+    }
+
+    public void backfillContentFields() {
+        log.info("다이어리 본문 파생 필드 백필 시작");
+        Query query = new NativeSearchQueryBuilder()
+                .withQuery(boolQuery().mustNot(existsQuery("plain_content")))
+                .build();
+
+        int updated = 0;
+        List<UpdateQuery> updates = new ArrayList<>();
+        try (SearchHitsIterator<Diary> it = elasticsearchOperations.searchForStream(query, Diary.class)) {
+            while (it.hasNext()) {
+                Diary diary = it.next().getContent();
+                diary.applyContentDerivedFields();
+
+                Document document = Document.create();
+                document.put("plain_content", diary.getPlainContent());
+                document.put("content_summary", diary.getContentSummary());
+                document.put("thumbnail", diary.getThumbnail());
+                updates.add(UpdateQuery.builder(diary.getId()).withDocument(document).build());
+
+                if (updates.size() >= BULK_SIZE) {
+                    elasticsearchOperations.bulkUpdate(updates, Diary.class);
+                    updated += updates.size();
+                    updates.clear();
+                }
+            }
+            if (!updates.isEmpty()) {
+                elasticsearchOperations.bulkUpdate(updates, Diary.class);
+                updated += updates.size();
+            }
+            log.info("다이어리 본문 파생 필드 백필 완료: {}건", updated);
+        } catch (Exception e) {
+            log.error("다이어리 백필 중 오류 ({}건 처리 후): {}", updated, e.getMessage());
+        }
+    }
+
+    public void backfillWriterSnapshot() {
+        log.info("다이어리 작성자 스냅샷 백필 시작");
+        Query query = new NativeSearchQueryBuilder()
+                .withQuery(boolQuery().mustNot(existsQuery("writer_nickname")))
+                .build();
+
+        int updated = 0;
+        List<Diary> chunk = new ArrayList<>();
+        try (SearchHitsIterator<Diary> it = elasticsearchOperations.searchForStream(query, Diary.class)) {
+            while (it.hasNext()) {
+                chunk.add(it.next().getContent());
+                if (chunk.size() >= BULK_SIZE) {
+                    updated += updateWriterSnapshot(chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                updated += updateWriterSnapshot(chunk);
+            }
+            log.info("다이어리 작성자 스냅샷 백필 완료: {}건", updated);
+        } catch (Exception e) {
+            log.error("작성자 스냅샷 백필 중 오류 ({}건 처리 후): {}", updated, e.getMessage());
+        }
+    }
+
+    // 지역 코드 keyword 하위 필드가 없는 기존 문서를 제자리 재색인 (스크립트 없는 update_by_query)
+    // 사용자 수정과 충돌한 문서는 건너뛰고 끝까지 진행 (해당 문서는 수정 시 이미 다시 색인됨)
+    public void reindexCodeKeywords() {
+        Query query = new NativeSearchQueryBuilder()
+                .withQuery(boolQuery()
+                        .filter(existsQuery("area_code"))
+                        .mustNot(existsQuery("area_code.keyword")))
+                .build();
+        try {
+            ByQueryResponse response = elasticsearchOperations.updateByQuery(
+                    UpdateQuery.builder(query).withAbortOnVersionConflict(false).build(), IndexCoordinates.of("diary"));
+            log.info("다이어리 지역 코드 재색인 완료: {}건 (버전 충돌 {}건)", response.getUpdated(), response.getVersionConflicts());
+        } catch (Exception e) {
+            log.error("다이어리 지역 코드 재색인 중 오류: {}", e.getMessage());
+        }
+    }
+
+    // 묶음 단위로 회원을 한 번에 조회해 스냅샷 저장
+    private int updateWriterSnapshot(List<Diary> diaries) {
+        Set<Long> memberIds = diaries.stream()
+                .map(Diary::getMemberId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Member> members = memberRepository.findByIdIn(memberIds).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        List<UpdateQuery> updates = new ArrayList<>();
+        for (Diary diary : diaries) {
+            Member member = members.get(diary.getMemberId());
+            if (member == null) {
+                continue;
+            }
+            Document document = Document.create();
+            document.put("writer_user_id", member.getUserId());
+            document.put("writer_nickname", member.getNickname());
+            document.put("writer_img", member.getImgPath());
+            updates.add(UpdateQuery.builder(diary.getId()).withDocument(document).build());
+        }
+        if (!updates.isEmpty()) {
+            elasticsearchOperations.bulkUpdate(updates, Diary.class);
+        }
+        return updates.size();
+    }
+}
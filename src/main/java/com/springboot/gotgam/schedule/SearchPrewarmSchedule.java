@@ -0,0 +1,60 @@
+package com.springboot.gotgam.schedule;
+
+import com.springboot.gotgam.dto.TrendingKeywordDto;
+import com.springboot.gotgam.service.SearchService;
+import com.springboot.gotgam.service.SearchTrendService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 인기 검색어 검색 결과 캐시 미리 채우기
+ * 검색 결과 캐시(Redis TTL 60초)가 피크 시간대 동안 비지 않도록,
+ * 피크 직전부터 30초마다 인기 검색어의 첫 페이지(기본 검색 조건)를 캐시 여부와 관계없이 다시 조회해 저장합니다.
+ * 캐시 조회는 TTL을 늘리지 않으므로 항상 새로 저장해야 만료나 버전 증가 후에도 다음 주기 안에 다시 채워집니다.
+ * 실행 주기는 Redis TTL보다 충분히 짧아야 합니다.
+ */
+@Slf4j
+@Component
+public class SearchPrewarmSchedule {
+    private static final int DEFAULT_PAGE_SIZE = 20; // 공개 검색 API 기본 size와 같아야 캐시 키가 일치
+
+    private final SearchService searchService;
+    private final SearchTrendService searchTrendService;
+    private final int topN;
+    private final int hours;
+
+    public SearchPrewarmSchedule(SearchService searchService,
+                                 SearchTrendService searchTrendService,
+                                 @Value("${search.trending.prewarm-size:20}") int topN,
+                                 @Value("${search.trending.prewarm-hours:24}") int hours) {
+        this.searchService = searchService;
+        this.searchTrendService = searchTrendService;
+        this.topN = topN;
+        this.hours = hours;
+    }
+
+    @Scheduled(cron = "${search.trending.prewarm-cron:0/30 * 10-13,17-21 * * *}", zone = "Asia/Seoul")
+    public void prewarm() {
+        int warmed = 0;
+        for (String type : SearchTrendService.TYPES) {
+            List<TrendingKeywordDto> trending = searchTrendService.getTrending(type, hours, topN);
+            for (TrendingKeywordDto keyword : trending) {
+                try {
+                    if ("diary".equals(type)) {
+                        searchService.refreshDiarySearchCache(DEFAULT_PAGE_SIZE, keyword.getKeyword());
+                    } else {
+                        searchService.refreshTourSpotSearchCache(DEFAULT_PAGE_SIZE, keyword.getKeyword());
+                    }
+                    warmed++;
+                } catch (Exception e) {
+                    log.warn("검색 캐시 미리 채우기 실패: type={}, keyword={}, {}", type, keyword.getKeyword(), e.getMessage());
+                }
+            }
+        }
+        log.debug("검색 캐시 미리 채우기 완료: {}건", warmed);
+    }
+}
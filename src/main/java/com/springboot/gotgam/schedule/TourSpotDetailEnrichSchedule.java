@@ -0,0 +1,206 @@
+package com.springboot.gotgam.schedule;
+
+import com.springboot.gotgam.entity.elasticsearch.TourSpots;
+import com.springboot.gotgam.exception.TourApiUnavailableException;
+import com.springboot.gotgam.service.TourSpotService;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.search.sort.SortBuilders;
+import org.elasticsearch.search.sort.SortOrder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+
+import static org.elasticsearch.index.query.QueryBuilders.*;
+
+/**
+ * 상세 정보(detail)가 없는 관광지를 미리 채우는 작업
+ * 최근 많이 조회된 관광지와 그 상세 화면에 노출되는 가까운 관광지를 먼저, 그다음 북마크/리뷰 수가 많은 관광지 순으로
+ * TourAPI를 호출해 저장합니다. 실행당/일일 처리 관광지 수 한도 안에서만 처리해 사용자 조회에 쓸 키 한도를 남겨 두고,
+ * 키 풀에 쓸 수 있는 키가 없거나(한도 초과, 서킷 오픈) 연속으로 실패하면 이번 실행을 멈춥니다.
+ * 사용자의 첫 상세 조회가 TourAPI를 기다리지 않게 하는 것이 목적입니다.
+ */
+@Slf4j
+@Component
+public class TourSpotDetailEnrichSchedule {
+    private static final String LOCK_KEY = "lock:tourspot:enrich";
+    private static final String SPOTS_KEY_PREFIX = "tourspot:enrich:spots:"; // 일별 처리한 관광지 수 (모든 노드 합산)
+    private static final String FAILED_KEY_PREFIX = "tourspot:enrich:failed:"; // 최근 실패한 관광지 (하루 동안 제외)
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int MAX_VIEWED = 100;
+    private static final int MAX_CONSECUTIVE_FAILURES = 3;
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TourSpotService tourSpotService;
+    private final int runBudget;
+    private final int dailySpotBudget;
+    private final long intervalMs;
+
+    public TourSpotDetailEnrichSchedule(ElasticsearchOperations elasticsearchOperations,
+                                        RedisTemplate<String, String> redisTemplate,
+                                        TourSpotService tourSpotService,
+                                        @Value("${tourspot.enrich.run-budget:30}") int runBudget,
+                                        @Value("${tourspot.enrich.daily-spot-budget:300}") int dailySpotBudget,
+                                        @Value("${tourspot.enrich.interval-ms:600000}") long intervalMs) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.redisTemplate = redisTemplate;
+        this.tourSpotService = tourSpotService;
+        this.runBudget = runBudget;
+        this.dailySpotBudget = dailySpotBudget;
+        this.intervalMs = intervalMs;
+    }
+
+    @Scheduled(fixedDelayString = "${tourspot.enrich.interval-ms:600000}", initialDelay = 120000)
+    public synchronized void enrich() {
+        if (runBudget <= 0 || dailySpotBudget <= 0) {
+            return;
+        }
+        // 여러 노드 중 하나만 실행 (다음 실행 전에 만료)
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "locked", Duration.ofMillis(intervalMs / 2)))) {
+            return;
+        }
+
+        Run run = new Run();
+        try {
+            for (TourSpots spot : findRecentlyViewedTargets()) {
+                if (run.stopped()) {
+                    break;
+                }
+                enrichOne(spot, run);
+            }
+            if (!run.stopped()) {
+                enrichPopular(run);
+            }
+        } catch (Exception e) {
+            log.error("관광지 상세 정보 미리 채우기 중 오류: {}", e.getMessage());
+        }
+        if (run.enriched > 0 || run.failed > 0) {
+            log.info("관광지 상세 정보 미리 채우기: 성공 {}건, 실패 {}건", run.enriched, run.failed);
+        }
+    }
+
+    private void enrichOne(TourSpots spot, Run run) {
+        if (!run.visited.add(spot.getContentId())
+                || Boolean.TRUE.equals(redisTemplate.hasKey(FAILED_KEY_PREFIX + spot.getContentId()))) {
+            return;
+        }
+        if (!reserveDailySpot()) {
+            run.exhausted = true;
+            log.info("관광지 상세 정보 미리 채우기 일일 한도 도달: {}건", dailySpotBudget);
+            return;
+        }
+        try {
+            tourSpotService.enrichDetail(spot);
+            run.enriched++;
+            run.consecutiveFailures = 0;
+        } catch (TourApiUnavailableException e) {
+            // 키 풀 전체 상태이므로 관광지를 실패로 기록하지 않고 이번 실행만 멈춤 (호출하지 않았으므로 예약도 되돌림)
+            releaseDailySpot();
+            run.exhausted = true;
+            log.info("관광지 상세 정보 미리 채우기 중단 (사용 가능한 키 없음): {}", e.getMessage());
+        } catch (Exception e) {
+            run.failed++;
+            run.consecutiveFailures++;
+            redisTemplate.opsForValue().set(FAILED_KEY_PREFIX + spot.getContentId(), "1", Duration.ofDays(1));
+            log.warn("관광지 상세 정보 미리 채우기 실패: {}, {}", spot.getContentId(), e.getMessage());
+        }
+    }
+
+    // 최근 이틀간 많이 조회된 관광지와 그 가까운 관광지 중 상세 정보가 없는 관광지 (조회 수 순)
+    private List<TourSpots> findRecentlyViewedTargets() {
+        Map<String, Double> views = new HashMap<>();
+        LocalDate today = LocalDate.now(ZONE);
+        for (LocalDate day : List.of(today, today.minusDays(1))) {
+            Set<ZSetOperations.TypedTuple<String>> top = redisTemplate.opsForZSet().reverseRangeWithScores(
+                    TourSpotService.VIEW_KEY_PREFIX + day.format(TourSpotService.VIEW_DAY_FORMAT), 0, MAX_VIEWED - 1);
+            if (top != null) {
+                top.forEach(tuple -> views.merge(tuple.getValue(), tuple.getScore() != null ? tuple.getScore() : 0, Double::sum));
+            }
+        }
+        if (views.isEmpty()) {
+            return List.of();
+        }
+
+        // 조회된 관광지의 상세 화면에 노출되는 가까운 관광지는 다음에 열릴 가능성이 높으므로 조회 수를 이어받음
+        Map<String, Double> priority = new HashMap<>(views);
+        Query viewedQuery = new NativeSearchQueryBuilder()
+                .withQuery(termsQuery("content_id", views.keySet()))
+                .withSourceFilter(new FetchSourceFilter(new String[]{"content_id", "near_spots"}, null))
+                .withPageable(PageRequest.of(0, views.size()))
+                .build();
+        for (SearchHit<TourSpots> hit : elasticsearchOperations.search(viewedQuery, TourSpots.class)) {
+            TourSpots viewed = hit.getContent();
+            if (viewed.getNearSpots() != null) {
+                double score = views.getOrDefault(viewed.getContentId(), 0.0);
+                viewed.getNearSpots().forEach(near -> priority.merge(near.getSpotId(), score, Math::max));
+            }
+        }
+
+        Query targetQuery = new NativeSearchQueryBuilder()
+                .withQuery(boolQuery()
+                        .filter(termsQuery("content_id", priority.keySet()))
+                        .mustNot(TourSpotService.hasDetailQuery()))
+                .withPageable(PageRequest.of(0, priority.size()))
+                .build();
+        List<TourSpots> targets = new ArrayList<>();
+        elasticsearchOperations.search(targetQuery, TourSpots.class).forEach(hit -> targets.add(hit.getContent()));
+        targets.sort(Comparator.comparingDouble((TourSpots spot) -> priority.getOrDefault(spot.getContentId(), 0.0)).reversed());
+        return targets;
+    }
+
+    // 상세 정보가 없는 관광지 전체를 북마크/리뷰 수 순으로 스크롤하며 한도까지 처리
+    private void enrichPopular(Run run) {
+        Query query = new NativeSearchQueryBuilder()
+                .withQuery(boolQuery().mustNot(TourSpotService.hasDetailQuery()))
+                .withSorts(SortBuilders.fieldSort("bookmark_count").order(SortOrder.DESC),
+                        SortBuilders.fieldSort("review_count").order(SortOrder.DESC),
+                        SortBuilders.fieldSort("modified_time").order(SortOrder.DESC))
+                .withPageable(PageRequest.of(0, Math.max(1, runBudget)))
+                .build();
+        try (SearchHitsIterator<TourSpots> it = elasticsearchOperations.searchForStream(query, TourSpots.class)) {
+            while (it.hasNext() && !run.stopped()) {
+                enrichOne(it.next().getContent(), run);
+            }
+        }
+    }
+
+    // 일별 처리 관광지 수 예약 (관광지 하나에 상세 API 3번 호출, 키별 한도는 키 풀에서 따로 관리)
+    private boolean reserveDailySpot() {
+        String key = SPOTS_KEY_PREFIX + LocalDate.now(ZONE).format(TourSpotService.VIEW_DAY_FORMAT);
+        Long used = redisTemplate.opsForValue().increment(key);
+        redisTemplate.expire(key, Duration.ofDays(2));
+        return used != null && used <= dailySpotBudget;
+    }
+
+    // 호출하지 못한 관광지의 일별 처리 수 예약 취소
+    private void releaseDailySpot() {
+        redisTemplate.opsForValue().decrement(SPOTS_KEY_PREFIX + LocalDate.now(ZONE).format(TourSpotService.VIEW_DAY_FORMAT));
+    }
+
+    // 한 번의 실행 상태
+    private class Run {
+        private final Set<String> visited = new HashSet<>();
+        private int enriched;
+        private int failed;
+        private int consecutiveFailures;
+        private boolean exhausted;
+
+        private boolean stopped() {
+            return exhausted || enriched + failed >= runBudget || consecutiveFailures >= MAX_CONSECUTIVE_FAILURES;
+        }
+    }
+}
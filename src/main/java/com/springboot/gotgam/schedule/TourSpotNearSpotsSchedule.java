@@ -0,0 +1,209 @@
+package com.springboot.gotgam.schedule;
+
+import com.springboot.gotgam.entity.elasticsearch.TourSpots;
+import com.springboot.gotgam.service.TourSpotDetailCache;
+import com.springboot.gotgam.service.TourSpotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.elasticsearch.index.query.QueryBuilders.*;
+
+// 관광지별 가까운 관광지 10곳을 미리 계산해 문서(near_spots)에 저장하는 작업
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TourSpotNearSpotsSchedule {
+    private static final int CHUNK_SIZE = 100;
+    private static final String INDEX_NAME = "tour_spots";
+    private static final String LAST_RUN_KEY = "tourspot:near-spots:last-run";
+    private static final String LOCK_KEY = "lock:tourspot:near-spots"; // 실행 중 (노드 간 중복 실행 방지)
+    private static final String ALL_RUN_KEY_PREFIX = "tourspot:near-spots:all-run:"; // 날짜별 전체 재계산 실행 노드 선점
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TourSpotDetailCache tourSpotDetailCache;
+
+    // 동시에 계산할 묶음 수 (0.5 CPU 컨테이너 기준으로 작게 유지)
+    @Value("${tourspot.near-spots.parallelism:2}")
+    private int parallelism;
+
+    // 매일 새벽 전체 재계산 (여러 노드 중 하나만)
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public synchronized void recomputeAll() {
+        if (!tryLock()) {
+            return;
+        }
+        try {
+            // 다른 노드가 오늘 이미 실행했으면 건너뜀 (실행 중인 노드가 끝난 뒤 늦게 시작한 경우)
+            String allRunKey = ALL_RUN_KEY_PREFIX + LocalDate.now(ZONE);
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(allRunKey, "1", Duration.ofDays(2)))) {
+                return;
+            }
+            LocalDateTime startedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+            Set<String> changed = ConcurrentHashMap.newKeySet();
+            int updated = recompute(matchAllQuery(), changed).size();
+            redisTemplate.opsForValue().set(LAST_RUN_KEY, startedAt.format(DATE_TIME_FORMAT));
+            invalidateDetails(changed);
+            log.info("가까운 관광지 전체 재계산 완료: {}건 (목록 변경 {}건)", updated, changed.size());
+        } finally {
+            redisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    // 아직 계산되지 않았거나 마지막 실행 이후 수정된 관광지 증분 계산 (처음 실행 시에는 전체가 대상)
+    @Scheduled(fixedDelayString = "${tourspot.near-spots.refresh-ms:600000}", initialDelay = 60000)
+    public synchronized void recomputeChanged() {
+        if (!tryLock()) {
+            return;
+        }
+        try {
+            recomputeChangedLocked();
+        } finally {
+            redisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    private void recomputeChangedLocked() {
+        LocalDateTime startedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        BoolQueryBuilder changed = boolQuery()
+                .should(boolQuery().mustNot(existsQuery("near_spots_updated")))
+                .minimumShouldMatch(1);
+        String lastRun = redisTemplate.opsForValue().get(LAST_RUN_KEY);
+        if (lastRun != null) {
+            changed.should(rangeQuery("modified_time").gt(lastRun));
+        }
+
+        Set<String> listChanged = ConcurrentHashMap.newKeySet();
+        Map<String, List<String>> result = recompute(changed, listChanged);
+        if (!result.isEmpty()) {
+            // 바뀐 관광지의 이웃도 목록에 새 관광지가 들어올 수 있으므로 함께 재계산 (나머지는 새벽 전체 계산에서 보정)
+            Set<String> neighborIds = new HashSet<>();
+            result.values().forEach(neighborIds::addAll);
+            result.keySet().forEach(neighborIds::remove);
+            if (!neighborIds.isEmpty()) {
+                recompute(termsQuery("content_id", neighborIds), listChanged);
+            }
+            // 가까운 관광지는 상세 화면에만 노출되므로 목록이 바뀐 관광지의 상세 캐시만 무효화
+            invalidateDetails(listChanged);
+            log.info("가까운 관광지 증분 계산 완료: {}건 (이웃 {}건)", result.size(), neighborIds.size());
+        }
+        redisTemplate.opsForValue().set(LAST_RUN_KEY, startedAt.format(DATE_TIME_FORMAT));
+    }
+
+    private boolean tryLock() {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "locked", LOCK_TTL));
+    }
+
+    private void invalidateDetails(Set<String> contentIds) {
+        contentIds.forEach(tourSpotDetailCache::invalidate);
+    }
+
+    // 대상 관광지를 스크롤로 읽어 묶음 단위로 병렬 계산 (관광지 ID -> 가까운 관광지 ID 목록, 목록이 바뀐 관광지는 changed에 추가)
+    private Map<String, List<String>> recompute(QueryBuilder target, Set<String> changed) {
+        Query query = new NativeSearchQueryBuilder()
+                .withQuery(target)
+                .withSourceFilter(new FetchSourceFilter(new String[]{"content_id", "location", "near_spots"}, null))
+                .build();
+
+        Map<String, List<String>> result = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism));
+        List<Future<?>> futures = new ArrayList<>();
+        try (SearchHitsIterator<TourSpots> it = elasticsearchOperations.searchForStream(query, TourSpots.class)) {
+            List<TourSpots> chunk = new ArrayList<>();
+            while (it.hasNext()) {
+                chunk.add(it.next().getContent());
+                if (chunk.size() >= CHUNK_SIZE) {
+                    List<TourSpots> spots = chunk;
+                    futures.add(executor.submit(() -> result.putAll(computeChunk(spots, changed))));
+                    chunk = new ArrayList<>();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                List<TourSpots> spots = chunk;
+                futures.add(executor.submit(() -> result.putAll(computeChunk(spots, changed))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("가까운 관광지 계산 중단 ({}건 처리 후)", result.size());
+        } catch (Exception e) {
+            log.error("가까운 관광지 계산 중 오류 ({}건 처리 후): {}", result.size(), e.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+
+    // 묶음 하나를 _msearch 한 번으로 조회하고 bulk 업데이트
+    private Map<String, List<String>> computeChunk(List<TourSpots> spots, Set<String> changed) {
+        List<TourSpots> located = spots.stream().filter(spot -> spot.getLocation() != null).toList();
+        List<Query> queries = located.stream()
+                .map(spot -> TourSpotService.createNearestQuery(spot.getLocation(), spot.getContentId()))
+                .toList();
+        List<SearchHits<TourSpots>> results = queries.isEmpty()
+                ? List.of()
+                : elasticsearchOperations.multiSearch(queries, TourSpots.class);
+
+        String updatedAt = LocalDateTime.now().format(DATE_TIME_FORMAT);
+        Map<String, List<String>> neighbors = new HashMap<>();
+        List<UpdateQuery> updates = new ArrayList<>();
+        for (TourSpots spot : spots) {
+            int index = located.indexOf(spot);
+            List<Map<String, Object>> nearSpots = new ArrayList<>();
+            List<String> nearIds = new ArrayList<>();
+            if (index >= 0) {
+                results.get(index).forEach(hit -> {
+                    TourSpots near = hit.getContent();
+                    Map<String, Object> nearSpot = new HashMap<>();
+                    nearSpot.put("spot_id", near.getContentId());
+                    nearSpot.put("title", near.getTitle());
+                    nearSpot.put("thumbnail", near.getFirstImage());
+                    nearSpots.add(nearSpot);
+                    nearIds.add(near.getContentId());
+                });
+            }
+
+            Document document = Document.create();
+            document.put("near_spots", nearSpots);
+            document.put("near_spots_updated", updatedAt);
+            updates.add(UpdateQuery.builder(spot.getId()).withDocument(document).build());
+            neighbors.put(spot.getContentId(), nearIds);
+            List<String> oldIds = spot.getNearSpots() == null ? null
+                    : spot.getNearSpots().stream().map(TourSpots.NearSpot::getSpotId).toList();
+            if (!nearIds.equals(oldIds)) {
+                changed.add(spot.getContentId());
+            }
+        }
+        elasticsearchOperations.bulkUpdate(updates, IndexCoordinates.of(INDEX_NAME));
+        return neighbors;
+    }
+}
@@ -37,6 +37,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
     private final DiaryRepository diaryRepository;
+    private final DiaryService diaryService;
 
     // 회원가입
     @Transactional
@@ -117,6 +118,7 @@ public class AuthService {
             member.setName(memberReqDto.getName());
             member.setNickname(memberReqDto.getNickname());
             memberRepository.save(member);
+            diaryService.syncWriterSnapshot(member.getId(), member.getUserId(), member.getNickname(), member.getImgPath());
             return true;
         } catch (Exception e) {
             log.error("회원정보 수정 오류 : {}", e.getMessage());
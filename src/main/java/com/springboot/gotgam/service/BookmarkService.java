@@ -25,6 +25,8 @@ public class BookmarkService {
     private final TourSpotsRepository tourSpotsRepository;
     private final MemberRepository memberRepository;
     private final DiaryRepository diaryRepository;
+    private final SearchCacheService searchCacheService;
+    private final TourSpotDetailCache tourSpotDetailCache;
 
     // 메모리 내 큐로 대체
     private final Queue<String> bookmarkQueue = new ConcurrentLinkedQueue<>();
@@ -146,7 +148,9 @@ public class BookmarkService {
             tourSpot.setBookmarkCount(tourSpot.getBookmarkCount() + delta);
             log.info("Bookmark count updated: {}", tourSpot.getBookmarkCount());
             tourSpotsRepository.save(tourSpot);
+            tourSpotDetailCache.invalidate(targetId); // 상세 화면의 북마크 수 변경
         }
+        searchCacheService.bumpVersion(); // 목록의 북마크 수 변경
     }
 
     // 북마크 여부 확인
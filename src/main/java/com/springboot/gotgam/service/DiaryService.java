@@ -8,10 +8,21 @@ import com.springboot.gotgam.repository.DiaryRepository;
 import com.springboot.gotgam.repository.MemberRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.elasticsearch.index.query.QueryBuilders.termQuery;
 
 @Slf4j
 @Service
@@ -19,6 +30,9 @@ import java.time.LocalDateTime;
 public class DiaryService {
     private DiaryRepository diaryRepository;
     private MemberRepository memberRepository;
+    private SearchCacheService searchCacheService;
+    private ElasticsearchOperations elasticsearchOperations;
+    private TagIndexService tagIndexService;
 
     // 다이어리 생성
     @Transactional
@@ -40,9 +54,14 @@ public class DiaryService {
                     .content(dto.getContent())
                     .memberId(memberId)
                     .isPublic(dto.isPublic())
+                    .writerUserId(member.getUserId())
+                    .writerNickname(member.getNickname())
+                    .writerImg(member.getImgPath())
                     .build();
 
             diaryRepository.save(diary);
+            searchCacheService.bumpVersion();
+            tagIndexService.update(null, publicTags(diary));
 
             return true;
         } catch (Exception e) {
@@ -56,6 +75,7 @@ public class DiaryService {
         try{
             Diary diary = diaryRepository.findByDiaryId(diaryReqDto.getDiaryId())
                     .orElseThrow(() -> new RuntimeException("해당 일기를 찾을 수 없습니다."));
+            List<String> oldTags = publicTags(diary);
             diary.setTitle(diaryReqDto.getTitle());
             diary.setRegion(diaryReqDto.getRegion());
             diary.setAreaCode(diaryReqDto.getAreaCode());
@@ -65,10 +85,18 @@ public class DiaryService {
             diary.setTags(diaryReqDto.getTags());
             diary.setTotalCost(diaryReqDto.getTotalCost());
             diary.setContent(diaryReqDto.getContent());
+            diary.applyContentDerivedFields(); // 요약/썸네일/평문 재계산
             diary.setPublic(diaryReqDto.isPublic());
             diary.setCreatedTime(LocalDateTime.now());
+            memberRepository.findById(diary.getMemberId()).ifPresent(member -> {
+                diary.setWriterUserId(member.getUserId());
+                diary.setWriterNickname(member.getNickname());
+                diary.setWriterImg(member.getImgPath());
+            });
 
             diaryRepository.save(diary);
+            searchCacheService.bumpVersion();
+            tagIndexService.update(oldTags, publicTags(diary));
             return true;
         } catch (Exception e) {
             throw new RuntimeException(e);
@@ -82,6 +110,8 @@ public class DiaryService {
             Diary diary = diaryRepository.findByDiaryId(diaryId)
                     .orElseThrow(() -> new RuntimeException("해당 일기를 찾을 수 없습니다."));
             diaryRepository.delete(diary);
+            searchCacheService.bumpVersion();
+            tagIndexService.update(publicTags(diary), null);
             return true;
         } catch (Exception e) {
             throw new RuntimeException(e);
@@ -91,6 +121,10 @@ public class DiaryService {
     // 다이어리 상세조회
     public DiaryResDto getDiaryDetail(String diaryId) {
         Diary diary = diaryRepository.findByDiaryId(diaryId).orElseThrow(() ->  new RuntimeException("Diary not found"));
+        // 작성자 스냅샷이 있으면 MySQL 조회 생략
+        if (diary.getWriterUserId() != null && diary.getWriterNickname() != null) {
+            return DiaryResDto.fromEntity(diary, diary.getWriterNickname(), diary.getWriterUserId(), diary.getWriterImg());
+        }
         Member member = memberRepository.findById(diary.getMemberId()).orElseThrow(() ->  new RuntimeException("Member not found"));
         String nickname = member.getNickname();
         String ownerId = member.getUserId();
@@ -103,12 +137,46 @@ public class DiaryService {
     public boolean changeIsPublic(String diaryId, boolean isPublic) {
         try {
             Diary diary = diaryRepository.findByDiaryId(diaryId).orElseThrow(() -> new RuntimeException("Diary not found"));
+            List<String> oldTags = publicTags(diary);
             diary.setPublic(isPublic);
             diaryRepository.save(diary);
+            searchCacheService.bumpVersion();
+            tagIndexService.update(oldTags, publicTags(diary));
             return true;
         } catch (Exception e) {
             log.error("다이어리 공개/비공개 변경 중 에러: {}", e.getMessage());
             return false;
         }
     }
+
+    // 회원 정보 변경 시 작성한 다이어리의 작성자 스냅샷 갱신
+    @Async
+    public void syncWriterSnapshot(Long memberId, String userId, String nickname, String imgPath) {
+        try {
+            Map<String, Object> params = new HashMap<>();
+            params.put("userId", userId);
+            params.put("nickname", nickname);
+            params.put("imgPath", imgPath);
+
+            UpdateQuery updateQuery = UpdateQuery.builder(new NativeSearchQueryBuilder()
+                            .withQuery(termQuery("member_id", memberId))
+                            .build())
+                    .withScript("ctx._source.writer_user_id = params.userId; " +
+                            "ctx._source.writer_nickname = params.nickname; " +
+                            "ctx._source.writer_img = params.imgPath;")
+                    .withLang("painless")
+                    .withParams(params)
+                    .build();
+            elasticsearchOperations.updateByQuery(updateQuery, IndexCoordinates.of("diary"));
+            searchCacheService.bumpVersion();
+            log.info("작성자 스냅샷 갱신 완료: memberId={}", memberId);
+        } catch (Exception e) {
+            log.error("작성자 스냅샷 갱신 중 에러: memberId={}, {}", memberId, e.getMessage());
+        }
+    }
+
+    // 태그 색인에 반영할 태그 (검색에 노출되는 공개 다이어리만, 이후 수정에 영향받지 않도록 복사)
+    private static List<String> publicTags(Diary diary) {
+        return diary.isPublic() && diary.getTags() != null ? new ArrayList<>(diary.getTags()) : null;
+    }
 }
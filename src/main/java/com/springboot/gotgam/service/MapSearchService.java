@@ -0,0 +1,212 @@
+package com.springboot.gotgam.service;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.springboot.gotgam.dto.tourspot.MapClusterDto;
+import com.springboot.gotgam.dto.tourspot.TourSpotListDto;
+import com.springboot.gotgam.entity.elasticsearch.TourSpots;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.aggregations.Aggregations;
+import org.elasticsearch.search.aggregations.bucket.geogrid.GeoGrid;
+import org.elasticsearch.search.aggregations.metrics.GeoCentroid;
+import org.elasticsearch.search.aggregations.metrics.TopHits;
+import org.elasticsearch.search.sort.SortOrder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.*;
+
+import static org.elasticsearch.index.query.QueryBuilders.*;
+
+/**
+ * 지도 화면 관광지 검색
+ * 화면 영역의 관광지를 ES geotile_grid 집계로 격자별로 묶어 (건수, 중심점, 대표 관광지)만 내려주므로
+ * 축소된 지도에서도 문서 수천 건을 가져오지 않습니다.
+ * 요청 영역을 지도 타일 단위로 나눠 타일별로 캐시하므로, 지도를 옮겨도 이미 조회한 타일은 다시 조회하지 않고
+ * 새로 보이는 타일만 _msearch 한 번으로 조회합니다. (격자는 타일 안에서만 나뉘므로 타일별 결과를 그대로 합침)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MapSearchService {
+    private static final int MAX_ZOOM = 21;
+    private static final int CLUSTER_PRECISION_OFFSET = 3; // 지도 타일 1장을 8x8 격자로 나눠 묶음
+    private static final int CLUSTERS_PER_TILE = 1 << (CLUSTER_PRECISION_OFFSET * 2);
+    private static final int MAX_TILES = 64; // 화면 영역이 이보다 많은 타일에 걸치면 확대 수준을 낮춤
+    private static final double MAX_LAT = 85.05112878; // 웹 메르카토르 위도 한계
+    private static final String[] SPOT_SOURCE = {"content_id", "title", "first_image", "bookmark_count"};
+    private static final JavaType CLUSTER_LIST_TYPE = TypeFactory.defaultInstance()
+            .constructCollectionType(List.class, MapClusterDto.class);
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final SearchCacheService searchCacheService;
+
+    /**
+     * 지도 영역의 관광지 묶음 조회
+     *
+     * @param top 북쪽 위도
+     * @param left 서쪽 경도
+     * @param bottom 남쪽 위도
+     * @param right 동쪽 경도
+     * @param zoom 지도 확대 수준 (0 ~ 21)
+     * @param classifiedTypeId 분류 타입 ID (선택)
+     * @return 격자별 묶음 마커 목록
+     */
+    public List<MapClusterDto> getClusters(double top, double left, double bottom, double right, int zoom,
+                                           String classifiedTypeId) {
+        // 북쪽 > 남쪽, 서쪽 <= 동쪽, 위경도 범위 확인 (NaN도 거부)
+        if (!(top > bottom && left <= right && top <= 90 && bottom >= -90 && left >= -180 && right <= 180)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 지도 영역입니다.");
+        }
+
+        // 요청 영역을 지도 타일 경계로 넓혀 맞춤 (타일이 너무 많으면 확대 수준을 낮춤)
+        int z = Math.max(0, Math.min(zoom, MAX_ZOOM));
+        int minX, maxX, minY, maxY;
+        while (true) {
+            int tiles = 1 << z;
+            minX = lonToTileX(left, tiles);
+            maxX = lonToTileX(right, tiles);
+            minY = latToTileY(top, tiles);
+            maxY = latToTileY(bottom, tiles);
+            if (z == 0 || (long) (maxX - minX + 1) * (maxY - minY + 1) <= MAX_TILES) {
+                break;
+            }
+            z--;
+        }
+
+        Map<String, Tile> tilesByKey = new LinkedHashMap<>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                tilesByKey.put(SearchService.createCacheKey(z, x, y, classifiedTypeId), new Tile(z, x, y));
+            }
+        }
+
+        Map<String, List<MapClusterDto>> cached = searchCacheService.getOrLoadAll("map", new ArrayList<>(tilesByKey.keySet()),
+                CLUSTER_LIST_TYPE, missing -> searchTiles(missing.stream().map(tilesByKey::get).toList(), missing, classifiedTypeId));
+
+        List<MapClusterDto> clusters = new ArrayList<>();
+        cached.values().stream().filter(Objects::nonNull).forEach(clusters::addAll);
+        return clusters;
+    }
+
+    // 캐시에 없는 타일들을 _msearch 한 번으로 조회 (캐시 키 -> 타일 안 격자 목록)
+    private Map<String, List<MapClusterDto>> searchTiles(List<Tile> tiles, List<String> keys, String classifiedTypeId) {
+        List<Query> queries = tiles.stream().map(tile -> createTileQuery(tile, classifiedTypeId)).toList();
+        List<SearchHits<TourSpots>> results = elasticsearchOperations.multiSearch(queries, TourSpots.class);
+
+        Map<String, List<MapClusterDto>> loaded = new HashMap<>();
+        for (int i = 0; i < tiles.size(); i++) {
+            loaded.put(keys.get(i), toClusters(tiles.get(i), results.get(i)));
+        }
+        log.debug("지도 타일 조회: {}개", tiles.size());
+        return loaded;
+    }
+
+    private Query createTileQuery(Tile tile, String classifiedTypeId) {
+        int tiles = 1 << tile.z();
+        BoolQueryBuilder boolQuery = boolQuery()
+                .filter(geoBoundingBoxQuery("location").setCorners(
+                        tileYToLat(tile.y(), tiles), tileXToLon(tile.x(), tiles),
+                        tileYToLat(tile.y() + 1, tiles), tileXToLon(tile.x() + 1, tiles)));
+        if (classifiedTypeId != null) {
+            boolQuery.filter(termQuery("classified_type_id", classifiedTypeId));
+        }
+
+        NativeSearchQuery query = new NativeSearchQueryBuilder()
+                .withQuery(boolQuery)
+                .withPageable(PageRequest.of(0, 1))
+                .build();
+        query.addAggregation(AggregationBuilders.geotileGrid("clusters")
+                .field("location")
+                .precision(tile.z() + CLUSTER_PRECISION_OFFSET)
+                .size(CLUSTERS_PER_TILE * 2)
+                .subAggregation(AggregationBuilders.geoCentroid("centroid").field("location"))
+                .subAggregation(AggregationBuilders.topHits("top")
+                        .size(1)
+                        .fetchSource(SPOT_SOURCE, null)
+                        .sort("bookmark_count", SortOrder.DESC)));
+        query.setMaxResults(0); // 문서 없이 집계만
+        return query;
+    }
+
+    private List<MapClusterDto> toClusters(Tile tile, SearchHits<TourSpots> searchHits) {
+        if (!searchHits.hasAggregations()
+                || !(searchHits.getAggregations().aggregations() instanceof Aggregations aggregations)) {
+            return List.of();
+        }
+
+        GeoGrid grid = aggregations.get("clusters");
+        List<MapClusterDto> clusters = new ArrayList<>();
+        for (GeoGrid.Bucket bucket : grid.getBuckets()) {
+            // 타일 경계 위의 관광지는 이웃 타일 격자로 잡힐 수 있으므로 이 타일의 격자만 사용 (합칠 때 중복 방지)
+            if (!tile.contains(bucket.getKeyAsString())) {
+                continue;
+            }
+            GeoCentroid centroid = bucket.getAggregations().get("centroid");
+            TopHits topHits = bucket.getAggregations().get("top");
+            clusters.add(MapClusterDto.builder()
+                    .tile(bucket.getKeyAsString())
+                    .count(bucket.getDocCount())
+                    .lat(centroid.centroid().getLat())
+                    .lon(centroid.centroid().getLon())
+                    .spot(toSpot(topHits))
+                    .build());
+        }
+        return clusters;
+    }
+
+    private TourSpotListDto toSpot(TopHits topHits) {
+        SearchHit[] hits = topHits.getHits().getHits();
+        if (hits.length == 0) {
+            return null;
+        }
+        Map<String, Object> source = hits[0].getSourceAsMap();
+        return TourSpotListDto.builder()
+                .spotId((String) source.get("content_id"))
+                .title((String) source.get("title"))
+                .thumbnail((String) source.get("first_image"))
+                .bookmarkCount(source.get("bookmark_count") instanceof Number count ? count.intValue() : 0)
+                .build();
+    }
+
+    // 경도 -> 타일 X (웹 메르카토르)
+    private static int lonToTileX(double lon, int tiles) {
+        int x = (int) Math.floor((lon + 180) / 360 * tiles);
+        return Math.max(0, Math.min(x, tiles - 1));
+    }
+
+    // 위도 -> 타일 Y (웹 메르카토르, 북쪽이 0)
+    private static int latToTileY(double lat, int tiles) {
+        double rad = Math.toRadians(Math.max(-MAX_LAT, Math.min(lat, MAX_LAT)));
+        int y = (int) Math.floor((1 - Math.log(Math.tan(rad) + 1 / Math.cos(rad)) / Math.PI) / 2 * tiles);
+        return Math.max(0, Math.min(y, tiles - 1));
+    }
+
+    private static double tileXToLon(int x, int tiles) {
+        return (double) x / tiles * 360 - 180;
+    }
+
+    private static double tileYToLat(int y, int tiles) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2.0 * y / tiles))));
+    }
+
+    // 지도 타일 (격자 키 zoom/x/y는 이 타일을 8x8로 나눈 칸)
+    private record Tile(int z, int x, int y) {
+        boolean contains(String gridKey) {
+            String[] parts = gridKey.split("/");
+            return Integer.parseInt(parts[1]) >> CLUSTER_PRECISION_OFFSET == x
+                    && Integer.parseInt(parts[2]) >> CLUSTER_PRECISION_OFFSET == y;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.util.List;
 public class MemberService {
     private final MemberRepository memberRepository;
     private PasswordEncoder passwordEncoder;
+    private DiaryService diaryService;
 
     // 회원 상세 조회
     public MemberResDto getMemberDetail(String userId) {
@@ -37,6 +38,7 @@ public class MemberService {
             member.setNickname(memberReqDto.getNickname());
             member.setImgPath(memberReqDto.getImgPath());
             memberRepository.save(member);
+            diaryService.syncWriterSnapshot(member.getId(), member.getUserId(), member.getNickname(), member.getImgPath());
             return true;
         } catch (Exception e) {
             log.error("회원정보 수정 : {}", e.getMessage());
@@ -80,6 +82,7 @@ public class MemberService {
             Member member = memberRepository.findByUserId(memberReqDto.getUserId()).orElseThrow(() -> new RuntimeException("해당 회원이 존재하지 않습니다."));
             member.setImgPath(memberReqDto.getImgPath());
             memberRepository.save(member);
+            diaryService.syncWriterSnapshot(member.getId(), member.getUserId(), member.getNickname(), member.getImgPath());
             return true;
         }catch (Exception e) {
             log.error("프로필 변경: {}", e.getMessage());
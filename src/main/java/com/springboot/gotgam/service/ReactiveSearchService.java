@@ -0,0 +1,123 @@
+package com.springboot.gotgam.service;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.springboot.gotgam.dto.SearchPageDto;
+import com.springboot.gotgam.dto.diary.DiarySearchListDto;
+import com.springboot.gotgam.dto.tourspot.TourSpotListDto;
+import com.springboot.gotgam.entity.elasticsearch.Diary;
+import com.springboot.gotgam.entity.elasticsearch.TourSpots;
+import com.springboot.gotgam.service.SearchCacheService.CachedPage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 논블로킹 검색 서비스
+ * SearchService와 같은 쿼리, 캐시, 요청 병합을 사용하되 ES 조회를 ReactiveElasticsearchOperations로 실행해
+ * ES 응답을 기다리는 동안 요청 스레드를 점유하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveSearchService {
+    private final ReactiveElasticsearchOperations reactiveElasticsearchOperations;
+    private final SearchService searchService;
+    private final SearchCacheService searchCacheService;
+    private final SearchRequestCoalescer searchRequestCoalescer;
+    private final SearchMetrics searchMetrics;
+
+    @Value("${search.cache.max-page:5}")
+    private int cacheMaxPage;
+
+    /**
+     * 다이어리 검색 (파라미터는 SearchService.diarySearch와 동일)
+     */
+    public Mono<Page<DiarySearchListDto>> diarySearch(int page, int size, String keyword, String sort,
+                                                      int minPrice, int maxPrice, String areaCode, String sigunguCode,
+                                                      String fields, boolean facets) {
+        log.debug("다이어리 검색(논블로킹): keyword={}, page={}, size={}", keyword, page, size);
+
+        Pageable pageable = searchService.createDiaryListPageable(page, size, sort);
+        String cacheKey = SearchService.createCacheKey(page, size, sort, keyword, minPrice, maxPrice, areaCode, sigunguCode, fields, facets);
+        String shape = SearchService.diaryQueryShape(keyword, minPrice, maxPrice, areaCode, sigunguCode);
+        Function<String, Mono<SearchPageDto<DiarySearchListDto>>> searchByKeyword = searchKeyword -> {
+            Query query = searchMetrics.record("diarySearch", "build", shape,
+                    () -> searchService.createDiaryListQuery(pageable, searchKeyword, minPrice, maxPrice, areaCode, sigunguCode, fields, facets));
+            return searchForHits("diarySearch", shape, query, Diary.class)
+                    // 작성자 스냅샷이 없는 문서는 MySQL 조회가 필요하므로 변환은 블로킹 허용 스레드에서
+                    .publishOn(Schedulers.boundedElastic())
+                    .map(searchHits -> searchService.toDiarySearchPage(searchHits, pageable, facets, shape));
+        };
+        Supplier<Mono<Page<DiarySearchListDto>>> search = () -> withCorrection(keyword, searchByKeyword);
+        return searchPage("diary", SearchService.DIARY_PAGE_TYPE, cacheKey, page, pageable, search);
+    }
+
+    /**
+     * 관광지 검색 (파라미터는 SearchService.searchTourSpots와 동일)
+     */
+    public Mono<Page<TourSpotListDto>> searchTourSpots(int page, int size, String sort, String keyword,
+                                                      String areaCode, String sigunguCode, String classifiedTypeId,
+                                                      String fields, boolean facets) {
+        log.debug("관광지 검색(논블로킹): keyword={}, page={}, size={}", keyword, page, size);
+
+        Pageable pageable = searchService.createTourSpotListPageable(page, size, sort);
+        String cacheKey = SearchService.createCacheKey(page, size, sort, keyword, areaCode, sigunguCode, classifiedTypeId, fields, facets);
+        String shape = SearchService.tourSpotQueryShape(keyword, areaCode, sigunguCode, classifiedTypeId);
+        Function<String, Mono<SearchPageDto<TourSpotListDto>>> searchByKeyword = searchKeyword -> {
+            Query query = searchMetrics.record("searchTourSpots", "build", shape,
+                    () -> searchService.createTourSpotListQuery(pageable, sort, searchKeyword, areaCode, sigunguCode, classifiedTypeId, fields, facets));
+            return searchForHits("searchTourSpots", shape, query, TourSpots.class)
+                    .map(searchHits -> searchService.toTourSpotSearchPage(searchHits, pageable, facets, shape));
+        };
+        Supplier<Mono<Page<TourSpotListDto>>> search = () -> withCorrection(keyword, searchByKeyword);
+        return searchPage("tour", SearchService.TOUR_SPOT_PAGE_TYPE, cacheKey, page, pageable, search);
+    }
+
+    // 결과가 없고 자동 재검색이 켜져 있으면 추천 검색어로 한 번 더 검색 (SearchService와 동일)
+    private <T> Mono<Page<T>> withCorrection(String keyword, Function<String, Mono<SearchPageDto<T>>> searchByKeyword) {
+        return searchByKeyword.apply(keyword)
+                .<Page<T>>flatMap(result -> {
+                    String corrected = searchService.correctionToRerun(result);
+                    if (corrected == null) {
+                        return Mono.just(result);
+                    }
+                    return searchByKeyword.apply(corrected)
+                            .map(rerun -> rerun.withCorrection(corrected, result.getSuggestions()));
+                });
+    }
+
+    // ES 조회 (구독 시점부터 응답 또는 오류까지를 ES 단계 시간으로 기록)
+    private <T> Mono<SearchHits<T>> searchForHits(String method, String shape, Query query, Class<T> clazz) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return reactiveElasticsearchOperations.searchForPage(query, clazz)
+                    .map(SearchPage::getSearchHits)
+                    .doOnNext(searchHits -> searchMetrics.recordSearch(method, shape, query, System.nanoTime() - start, searchHits, null))
+                    .doOnError(e -> searchMetrics.recordSearch(method, shape, query, System.nanoTime() - start, null, e));
+        });
+    }
+
+    // 앞쪽 페이지는 캐시 사용, 모든 페이지는 동일 요청 병합 (키 구성은 SearchService와 동일해 캐시와 병합을 공유)
+    private <T> Mono<Page<T>> searchPage(String namespace, JavaType pageType, String cacheKey, int page, Pageable pageable,
+                                         Supplier<Mono<Page<T>>> search) {
+        if (page >= cacheMaxPage) {
+            return searchRequestCoalescer.executeAsync(namespace + "-page:" + cacheKey, search);
+        }
+        return searchRequestCoalescer.<CachedPage<T>>executeAsync(namespace + ":" + cacheKey,
+                        () -> searchCacheService.getOrLoadAsync(namespace, cacheKey, pageType,
+                                () -> search.get().map(CachedPage::from)))
+                .map(cached -> cached.toPage(pageable));
+    }
+}
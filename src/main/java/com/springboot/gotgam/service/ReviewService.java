@@ -26,6 +26,8 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final TourSpotsRepository tourSpotsRepository;
     private final MemberRepository memberRepository;
+    private final SearchCacheService searchCacheService;
+    private final TourSpotDetailCache tourSpotDetailCache;
 
     // 리뷰 추가 요청
     @Async
@@ -93,6 +95,8 @@ public class ReviewService {
         spot.setReviewCount(newCount);
         spot.setAvgRating(newCount > 0 ? newRating / newCount : 0);
         tourSpotsRepository.save(spot);
+        searchCacheService.bumpVersion(); // 목록의 리뷰 수/평점 변경
+        tourSpotDetailCache.invalidate(tourSpotId);
     }
 
     // 리뷰 조회
@@ -168,6 +172,8 @@ public class ReviewService {
             spot.setAvgRating(spot.getReviewCount() > 0 ? newRating / spot.getReviewCount() : 0);
 
             tourSpotsRepository.save(spot);
+            searchCacheService.bumpVersion();
+            tourSpotDetailCache.invalidate(review.getTourSpotId());
             return true;
         } catch (Exception e) {
             throw new RuntimeException(e);
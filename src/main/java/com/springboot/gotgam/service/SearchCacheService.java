@@ -0,0 +1,285 @@
+package com.springboot.gotgam.service;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.gotgam.dto.FacetBucketDto;
+import com.springboot.gotgam.dto.SearchPageDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과 2단계 캐시
+ * L1(Caffeine, JVM 내부) -> L2(Redis, 노드 간 공유) 순으로 조회하고, 둘 다 없으면 ES를 조회합니다.
+ * 캐시 키에 인덱스 버전을 포함해 다이어리/리뷰/북마크 쓰기 시 버전만 올려 전체를 무효화합니다.
+ */
+@Slf4j
+@Service
+public class SearchCacheService {
+    private static final String VERSION_KEY = "search:index-version";
+    private static final String CACHE_KEY_PREFIX = "search:result:";
+    private static final long VERSION_CHECK_INTERVAL_MS = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Object> localCache;
+    private final Duration redisTtl;
+
+    private final Counter l1Hit;
+    private final Counter l1Miss;
+    private final Counter l2Hit;
+    private final Counter l2Miss;
+    private final DistributionSummary payloadBytes;
+
+    // Redis 버전 조회를 줄이기 위해 잠시 로컬에 보관 (다른 노드의 변경은 최대 1초 뒤 반영)
+    private volatile long cachedVersion;
+    private volatile long versionCheckedAt;
+
+    public SearchCacheService(RedisTemplate<String, String> redisTemplate,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${search.cache.local-max-size:500}") long localMaxSize,
+                              @Value("${search.cache.local-ttl-seconds:10}") long localTtlSeconds,
+                              @Value("${search.cache.redis-ttl-seconds:60}") long redisTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "search.result");
+        this.l1Hit = counter(meterRegistry, "l1", "hit");
+        this.l1Miss = counter(meterRegistry, "l1", "miss");
+        this.l2Hit = counter(meterRegistry, "l2", "hit");
+        this.l2Miss = counter(meterRegistry, "l2", "miss");
+        this.payloadBytes = DistributionSummary.builder("search.cache.payload")
+                .description("Redis에 저장된 검색 결과 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("search.cache.requests")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회 후 없으면 loader 실행 결과를 L1, L2에 저장
+     *
+     * @param namespace 캐시 구분 (diary, tour 등)
+     * @param key 정규화된 검색 조건 키
+     * @param type 역직렬화 타입 (Redis 저장용)
+     * @param loader 캐시 미스 시 실행할 조회
+     */
+    public <T> T getOrLoad(String namespace, String key, JavaType type, Supplier<T> loader) {
+        String cacheKey = createCacheKey(namespace, key);
+        T cached = lookup(cacheKey, type);
+        if (cached != null) {
+            return cached;
+        }
+
+        T loaded = loader.get();
+        if (loaded != null) {
+            store(cacheKey, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 캐시 여부와 관계없이 loader를 실행해 L1, L2에 다시 저장 (Redis 유지 시간도 처음부터 다시 시작)
+     * 캐시가 만료되기 전에 미리 채워 두는 용도입니다.
+     *
+     * @param namespace 캐시 구분
+     * @param key 정규화된 검색 조건 키
+     * @param loader 실행할 조회
+     */
+    public <T> T refresh(String namespace, String key, Supplier<T> loader) {
+        String cacheKey = createCacheKey(namespace, key);
+        T loaded = loader.get();
+        if (loaded != null) {
+            store(cacheKey, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 여러 키를 한 번에 캐시 조회 후 없는 키만 모아 loader 한 번으로 조회해 저장
+     *
+     * @param namespace 캐시 구분
+     * @param keys 정규화된 조회 조건 키 목록
+     * @param type 역직렬화 타입 (Redis 저장용)
+     * @param loader 캐시에 없는 키 목록 -> (키 -> 결과)
+     * @return 키 -> 결과 (keys 순서)
+     */
+    public <T> Map<String, T> getOrLoadAll(String namespace, List<String> keys, JavaType type,
+                                           Function<List<String>, Map<String, T>> loader) {
+        Map<String, T> result = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String key : keys) {
+            T cached = lookup(createCacheKey(namespace, key), type);
+            result.put(key, cached);
+            if (cached == null) {
+                missing.add(key);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            loader.apply(missing).forEach((key, loaded) -> {
+                if (loaded != null) {
+                    store(createCacheKey(namespace, key), loaded);
+                    result.put(key, loaded);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * getOrLoad의 논블로킹 버전 (Redis 조회/저장은 boundedElastic 스레드에서 실행)
+     *
+     * @param loader 캐시 미스 시 구독할 조회
+     */
+    public <T> Mono<T> getOrLoadAsync(String namespace, String key, JavaType type, Supplier<Mono<T>> loader) {
+        return Mono.fromCallable(() -> createCacheKey(namespace, key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(cacheKey -> Mono.<T>fromCallable(() -> lookup(cacheKey, type))
+                        .switchIfEmpty(Mono.defer(loader)
+                                .publishOn(Schedulers.boundedElastic())
+                                .doOnNext(loaded -> store(cacheKey, loaded))));
+    }
+
+    /**
+     * 인덱스 버전 증가 (검색 결과에 영향을 주는 쓰기 후 호출)
+     */
+    public void bumpVersion() {
+        try {
+            Long version = redisTemplate.opsForValue().increment(VERSION_KEY);
+            if (version != null) {
+                cachedVersion = version;
+                versionCheckedAt = System.currentTimeMillis();
+            }
+        } catch (Exception e) {
+            log.warn("검색 캐시 버전 증가 실패: {}", e.getMessage());
+        }
+        localCache.invalidateAll();
+    }
+
+    private String createCacheKey(String namespace, String key) {
+        return CACHE_KEY_PREFIX + namespace + ":v" + currentVersion() + ":" + key;
+    }
+
+    // L1 -> L2 순으로 조회 (L2 적중 시 L1에 저장)
+    @SuppressWarnings("unchecked")
+    private <T> T lookup(String cacheKey, JavaType type) {
+        Object local = localCache.getIfPresent(cacheKey);
+        if (local != null) {
+            l1Hit.increment();
+            return (T) local;
+        }
+        l1Miss.increment();
+
+        T remote = readRemote(cacheKey, type);
+        if (remote != null) {
+            l2Hit.increment();
+            localCache.put(cacheKey, remote);
+            return remote;
+        }
+        l2Miss.increment();
+        return null;
+    }
+
+    private void store(String cacheKey, Object value) {
+        localCache.put(cacheKey, value);
+        writeRemote(cacheKey, value);
+    }
+
+    private long currentVersion() {
+        long now = System.currentTimeMillis();
+        if (now - versionCheckedAt > VERSION_CHECK_INTERVAL_MS) {
+            try {
+                String version = redisTemplate.opsForValue().get(VERSION_KEY);
+                cachedVersion = version != null ? Long.parseLong(version) : 0L;
+            } catch (Exception e) {
+                log.warn("검색 캐시 버전 조회 실패: {}", e.getMessage());
+            }
+            versionCheckedAt = now;
+        }
+        return cachedVersion;
+    }
+
+    private <T> T readRemote(String cacheKey, JavaType type) {
+        try {
+            String json = redisTemplate.opsForValue().get(cacheKey);
+            return json != null ? objectMapper.readValue(json, type) : null;
+        } catch (Exception e) {
+            log.warn("검색 캐시 조회 실패: key={}, {}", cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String cacheKey, Object value) {
+        try {
+            String json = objectMapper.writeValueAsString(value);
+            payloadBytes.record(json.length());
+            redisTemplate.opsForValue().set(cacheKey, json, redisTtl);
+        } catch (Exception e) {
+            log.warn("검색 캐시 저장 실패: key={}, {}", cacheKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 저장용 페이지 (PageImpl은 역직렬화가 불가능하므로 내용과 전체 건수, 필터별 건수, 추천 검색어만 보관)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CachedPage<T> {
+        private List<T> content;
+        private long totalElements;
+        private boolean totalExact = true;
+        private Map<String, List<FacetBucketDto>> facets;
+        private List<String> suggestions;
+        private String correctedKeyword;
+
+        public static <T> CachedPage<T> from(Page<T> page) {
+            if (page instanceof SearchPageDto<T> searchPage) {
+                return new CachedPage<>(page.getContent(), page.getTotalElements(), searchPage.isTotalExact(), searchPage.getFacets(),
+                        searchPage.getSuggestions(), searchPage.getCorrectedKeyword());
+            }
+            return new CachedPage<>(page.getContent(), page.getTotalElements(), true, null, null, null);
+        }
+
+        public Page<T> toPage(Pageable pageable) {
+            return new SearchPageDto<>(content, pageable, totalElements, totalExact, facets, suggestions, correctedKeyword);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.springboot.gotgam.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 검색 단계별 소요 시간 측정
+ * search.latency 타이머를 메서드(method), 단계(phase), 쿼리 형태(shape)로 나눠 기록해
+ * 느린 요청이 ES 때문인지, MySQL 작성자 조회나 DTO 변환 때문인지 구분할 수 있게 합니다.
+ * 단계: build(쿼리 생성), es(ES 왕복 - took + 네트워크), hydration(MySQL 조회), mapping(DTO 변환)
+ * 예외로 끝난 단계(ES 오류, 시간 초과 등)도 outcome=error, exception=예외 클래스명 태그로 함께 기록합니다.
+ * ES 조회가 기준 시간을 넘으면 생성된 쿼리 JSON을 느린 쿼리 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+public class SearchMetrics {
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryNanos;
+    private final ConcurrentMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public SearchMetrics(MeterRegistry meterRegistry,
+                         @Value("${search.slow-query-ms:500}") long slowQueryMs) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryMs);
+    }
+
+    /**
+     * 검색 조건으로 쿼리 형태 태그 생성 (태그 값 종류를 적게 유지)
+     *
+     * @return match_all, keyword, tag, filter, keyword+filter, tag+filter 중 하나
+     */
+    public static String shape(String keyword, boolean hasFilter) {
+        String text = keyword == null || keyword.isEmpty() ? null : keyword.startsWith("#") ? "tag" : "keyword";
+        if (text == null) {
+            return hasFilter ? "filter" : "match_all";
+        }
+        return hasFilter ? text + "+filter" : text;
+    }
+
+    /**
+     * 한 단계의 실행 시간 기록
+     */
+    public <T> T record(String method, String phase, String shape, Supplier<T> task) {
+        long start = System.nanoTime();
+        Throwable error = null;
+        try {
+            return task.get();
+        } catch (RuntimeException | Error e) {
+            error = e;
+            throw e;
+        } finally {
+            record(method, phase, shape, error, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * ES 조회 시간 기록 및 느린 쿼리 로그
+     */
+    public <T> SearchHits<T> recordSearch(String method, String shape, Query query, Supplier<SearchHits<T>> search) {
+        long start = System.nanoTime();
+        SearchHits<T> searchHits = null;
+        Throwable error = null;
+        try {
+            searchHits = search.get();
+            return searchHits;
+        } catch (RuntimeException | Error e) {
+            error = e;
+            throw e;
+        } finally {
+            recordSearch(method, shape, query, System.nanoTime() - start, searchHits, error);
+        }
+    }
+
+    /**
+     * 이미 측정한 ES 조회 시간 기록 (논블로킹 조회용)
+     *
+     * @param searchHits 조회 결과 (실패 시 null)
+     * @param error 조회 실패 원인 (성공 시 null)
+     */
+    public void recordSearch(String method, String shape, Query query, long elapsedNanos, SearchHits<?> searchHits,
+                             Throwable error) {
+        record(method, "es", shape, error, elapsedNanos);
+        if (elapsedNanos >= slowQueryNanos || error != null) {
+            log.warn("{}: method={}, shape={}, {} ms, hits={}, query={}",
+                    error != null ? "실패한 검색 쿼리 (" + error.getClass().getSimpleName() + ")" : "느린 검색 쿼리",
+                    method, shape, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    searchHits != null ? searchHits.getTotalHits() : -1, describe(query));
+        }
+    }
+
+    private void record(String method, String phase, String shape, Throwable error, long elapsedNanos) {
+        TimerKey key = new TimerKey(method, phase, shape, error != null ? error.getClass().getSimpleName() : "none");
+        timers.computeIfAbsent(key, this::register).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 태그 조합별 타이머는 처음 한 번만 등록하고 재사용
+    private Timer register(TimerKey key) {
+        return Timer.builder("search.latency")
+                .tag("method", key.method())
+                .tag("phase", key.phase())
+                .tag("shape", key.shape())
+                .tag("outcome", "none".equals(key.exception()) ? "success" : "error")
+                .tag("exception", key.exception())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(String method, String phase, String shape, String exception) {
+    }
+
+    // 느린 쿼리 로그용 쿼리 JSON (정렬, 페이지 포함)
+    private static String describe(Query query) {
+        if (query instanceof NativeSearchQuery nativeQuery && nativeQuery.getQuery() != null) {
+            return nativeQuery.getQuery().toString().replaceAll("\\s+", " ")
+                    + " sort=" + nativeQuery.getElasticsearchSorts()
+                    + " pageable=" + query.getPageable();
+        }
+        return String.valueOf(query);
+    }
+}
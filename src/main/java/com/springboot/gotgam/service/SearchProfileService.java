@@ -0,0 +1,116 @@
+package com.springboot.gotgam.service;
+
+import com.springboot.gotgam.dto.SearchProfileDto;
+import com.springboot.gotgam.dto.SearchProfileDto.ClauseProfile;
+import com.springboot.gotgam.dto.SearchProfileDto.ShardProfile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.profile.ProfileResult;
+import org.elasticsearch.search.sort.SortBuilders;
+import org.elasticsearch.search.sort.SortOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 쿼리 분석 서비스 (관리자용)
+ * 공개 검색 API와 같은 조건으로 쿼리를 만들어 profile: true로 다시 실행하고,
+ * 쿼리 절별 소요 시간을 돌려줍니다. (ngram multi_match, match_phrase 가중치 등 비용 확인용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchProfileService {
+    private static final double NANOS_PER_MS = 1_000_000.0;
+
+    private final RestHighLevelClient restHighLevelClient;
+    private final SearchService searchService;
+
+    /**
+     * 다이어리 검색 쿼리 분석 (파라미터는 /search/diary-list와 동일)
+     */
+    public SearchProfileDto profileDiarySearch(int page, int size, String keyword, String sort,
+                                               int minPrice, int maxPrice, String areaCode, String sigunguCode) {
+        Pageable pageable = searchService.createDiaryListPageable(page, size, sort);
+        Query query = searchService.createDiaryListQuery(pageable, keyword, minPrice, maxPrice, areaCode, sigunguCode, null, false);
+        return profile("diary", query, pageable);
+    }
+
+    /**
+     * 관광지 검색 쿼리 분석 (파라미터는 /search/tour-list와 동일)
+     */
+    public SearchProfileDto profileTourSpotSearch(int page, int size, String sort, String keyword,
+                                                  String areaCode, String sigunguCode, String classifiedTypeId) {
+        Pageable pageable = searchService.createTourSpotListPageable(page, size, sort);
+        Query query = searchService.createTourSpotListQuery(pageable, sort, keyword, areaCode, sigunguCode, classifiedTypeId, null, false);
+        return profile("tour_spots", query, pageable);
+    }
+
+    private SearchProfileDto profile(String index, Query query, Pageable pageable) {
+        if (!(query instanceof NativeSearchQuery nativeQuery)) {
+            throw new IllegalStateException("분석할 수 없는 쿼리 형식입니다.");
+        }
+
+        SearchSourceBuilder source = new SearchSourceBuilder()
+                .query(nativeQuery.getQuery())
+                .from((int) pageable.getOffset())
+                .size(pageable.getPageSize())
+                .fetchSource(false)
+                .profile(true);
+        for (Sort.Order order : pageable.getSort()) {
+            SortOrder direction = order.isAscending() ? SortOrder.ASC : SortOrder.DESC;
+            source.sort("_score".equals(order.getProperty())
+                    ? SortBuilders.scoreSort().order(direction)
+                    : SortBuilders.fieldSort(order.getProperty()).order(direction));
+        }
+
+        try {
+            SearchResponse response = restHighLevelClient.search(new SearchRequest(index).source(source), RequestOptions.DEFAULT);
+
+            List<ShardProfile> shards = new ArrayList<>();
+            for (var shard : response.getProfileResults().entrySet()) {
+                for (var queryProfile : shard.getValue().getQueryProfileResults()) {
+                    shards.add(ShardProfile.builder()
+                            .shardId(shard.getKey())
+                            .rewriteTimeMs(queryProfile.getRewriteTime() / NANOS_PER_MS)
+                            .collectorTimeMs(queryProfile.getCollectorResult().getTime() / NANOS_PER_MS)
+                            .queries(queryProfile.getQueryResults().stream().map(this::toClauseProfile).toList())
+                            .build());
+                }
+            }
+
+            return SearchProfileDto.builder()
+                    .index(index)
+                    .query(nativeQuery.getQuery().toString())
+                    .tookMs(response.getTook().millis())
+                    .totalHits(response.getHits().getTotalHits() != null ? response.getHits().getTotalHits().value : 0)
+                    .shards(shards)
+                    .build();
+        } catch (Exception e) {
+            log.error("검색 쿼리 분석 실패: index={}, {}", index, e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "검색 쿼리 분석에 실패했습니다.");
+        }
+    }
+
+    private ClauseProfile toClauseProfile(ProfileResult result) {
+        return ClauseProfile.builder()
+                .type(result.getQueryName())
+                .description(result.getLuceneDescription())
+                .timeMs(result.getTime() / NANOS_PER_MS)
+                .breakdown(result.getTimeBreakdown())
+                .children(result.getProfiledChildren().stream().map(this::toClauseProfile).toList())
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.springboot.gotgam.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 검색 요청 병합 (single-flight)
+ * 같은 조건의 검색이 동시에 들어오면 처음 요청만 ES를 조회하고, 나머지는 그 결과를 함께 받습니다.
+ * 결과를 보관하지 않으므로 캐시와 달리 요청이 끝나면 바로 사라집니다.
+ */
+@Component
+public class SearchRequestCoalescer {
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+    private final Counter collapsed;
+
+    public SearchRequestCoalescer(MeterRegistry meterRegistry) {
+        this.executed = counter(meterRegistry, "executed");
+        this.collapsed = counter(meterRegistry, "collapsed");
+        Gauge.builder("search.coalesce.in-flight", inFlight, Map::size)
+                .description("진행 중인 검색 요청 수 (병합 키 기준)")
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("search.coalesce.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 키로 진행 중인 요청이 있으면 그 결과를 기다리고, 없으면 loader 실행
+     *
+     * @param key 정규화된 검색 조건 키 (구분 접두어 포함)
+     * @param loader 실제 조회
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            collapsed.increment();
+            return (T) await(existing);
+        }
+
+        executed.increment();
+        try {
+            T result = loader.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * execute의 논블로킹 버전
+     * 먼저 구독한 요청의 조회만 실행되며, 특정 구독자가 연결을 끊어도 조회는 끝까지 진행되어 다른 대기자에게 전달됩니다.
+     *
+     * @param key 정규화된 검색 조건 키 (구분 접두어 포함)
+     * @param loader 실제 조회
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> executeAsync(String key, Supplier<Mono<T>> loader) {
+        return Mono.defer(() -> {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+            if (existing != null) {
+                collapsed.increment();
+                return Mono.fromFuture(existing).map(result -> (T) result);
+            }
+
+            executed.increment();
+            loader.get().toFuture().whenComplete((result, error) -> {
+                inFlight.remove(key, future);
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(result);
+                }
+            });
+            return Mono.fromFuture(future).map(result -> (T) result);
+        });
+    }
+
+    // 대기 중 발생한 예외는 원래 예외 그대로 전달 (ResponseStatusException 등)
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
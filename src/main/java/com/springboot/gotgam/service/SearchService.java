@@ -1,6 +1,13 @@
 package com.springboot.gotgam.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.springboot.gotgam.constant.Type;
+import com.springboot.gotgam.dto.CursorPageDto;
+import com.springboot.gotgam.dto.FacetBucketDto;
+import com.springboot.gotgam.dto.SearchPageDto;
 import com.springboot.gotgam.dto.diary.DiarySearchListDto;
 import com.springboot.gotgam.dto.tourspot.TourSpotListDto;
 import com.springboot.gotgam.entity.elasticsearch.Diary;
@@ -10,13 +17,27 @@ import com.springboot.gotgam.entity.mysql.Member;
 import com.springboot.gotgam.exception.ResourceNotFoundException;
 import com.springboot.gotgam.repository.BookmarkRepository;
 import com.springboot.gotgam.repository.MemberRepository;
+import com.springboot.gotgam.service.SearchCacheService.CachedPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.common.lucene.search.function.CombineFunction;
+import org.elasticsearch.common.lucene.search.function.FieldValueFactorFunction;
+import org.elasticsearch.common.lucene.search.function.FunctionScoreQuery;
 import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
+import org.elasticsearch.index.query.functionscore.FunctionScoreQueryBuilder;
+import org.elasticsearch.index.query.functionscore.ScoreFunctionBuilders;
+import org.elasticsearch.search.aggregations.AbstractAggregationBuilder;
+import org.elasticsearch.search.aggregations.Aggregation;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.aggregations.Aggregations;
+import org.elasticsearch.search.aggregations.bucket.MultiBucketsAggregation;
+import org.elasticsearch.search.suggest.SuggestBuilder;
+import org.elasticsearch.search.suggest.SuggestBuilders;
+import org.elasticsearch.search.suggest.phrase.DirectCandidateGeneratorBuilder;
+import org.elasticsearch.search.suggest.phrase.PhraseSuggestionBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -25,11 +46,20 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
 import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
 import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.SourceFilter;
+import org.springframework.data.elasticsearch.core.suggest.response.Suggest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.elasticsearch.index.query.QueryBuilders.*;
@@ -44,15 +74,78 @@ import static org.elasticsearch.index.query.QueryBuilders.*;
 public class SearchService {
     
     // 상수 정의
-    private static final int CONTENT_SUMMARY_MAX_LENGTH = 150;
     private static final int RECOMMEND_COUNT = 10;
     private static final float PHRASE_MATCH_BOOST = 10.0f;
     private static final float PARTIAL_MATCH_BOOST = 1.0f;
+    // 인기순(sort=popular) 점수 = 검색 점수 x (1 + 평점 + 리뷰 수 + 북마크 수 + 최신성), 각 항목은 log10(1+x) x 가중치
+    private static final String POPULAR_SORT = "popular";
+    private static final float POPULAR_RATING_WEIGHT = 2.0f;
+    private static final float POPULAR_REVIEW_WEIGHT = 1.0f;
+    private static final float POPULAR_BOOKMARK_WEIGHT = 1.0f;
+    private static final float POPULAR_FRESHNESS_WEIGHT = 0.5f; // 수정일 30일 이내 최대, 1년 지나면 절반
+    // 결과가 없을 때 보여줄 추천 검색어 (제목 기준 오타 교정, 실제로 결과가 있는 교정만)
+    private static final String DID_YOU_MEAN = "did_you_mean";
+    private static final int DID_YOU_MEAN_SIZE = 3;
+    private static final String DID_YOU_MEAN_COLLATE = "{\"match\":{\"title\":{\"query\":\"{{suggestion}}\",\"operator\":\"and\"}}}";
+    private static final ObjectMapper CURSOR_MAPPER = new ObjectMapper();
+    private static final int FACET_SIZE = 50; // 필터 항목별 최대 버킷 수 (시도 17개, 시군구는 시도 선택 후 사용)
+
+    // 목록 DTO 필드 -> _source 필드 매핑 (목록 조회 시 필요한 필드만 가져옴)
+    private static final Map<String, List<String>> DIARY_LIST_FIELDS = Map.of(
+            "diaryId", List.of("diary_id"),
+            "title", List.of("title"),
+            "contentSummary", List.of("content_summary"),
+            "thumbnail", List.of("thumbnail"),
+            "writer", List.of("writer_nickname", "member_id"),
+            "writerImg", List.of("writer_img", "member_id"),
+            "createdAt", List.of("created_time"),
+            "startDate", List.of("start_date"),
+            "endDate", List.of("end_date"),
+            "region", List.of("region"));
+    private static final Map<String, List<String>> TOUR_SPOT_LIST_FIELDS = Map.of(
+            "spotId", List.of("content_id"),
+            "title", List.of("title"),
+            "addr", List.of("addr1"),
+            "thumbnail", List.of("first_image"),
+            "cat1", List.of("cat1"),
+            "cat2", List.of("cat2"),
+            "cat3", List.of("cat3"),
+            "reviewCount", List.of("review_count"),
+            "avgRating", List.of("avg_rating"),
+            "bookmarkCount", List.of("bookmark_count"));
+    private static final SourceFilter DIARY_LIST_SOURCE = createSourceFilter(null, DIARY_LIST_FIELDS, "diary_id");
+    private static final SourceFilter TOUR_SPOT_LIST_SOURCE = createSourceFilter(null, TOUR_SPOT_LIST_FIELDS, "content_id");
+    private static final SourceFilter TOUR_SPOT_SIMPLE_SOURCE = new FetchSourceFilter(
+            new String[]{"content_id", "title", "first_image"}, null);
+
+    // 검색 결과 캐시 역직렬화 타입
+    static final JavaType DIARY_PAGE_TYPE = TypeFactory.defaultInstance()
+            .constructParametricType(CachedPage.class, DiarySearchListDto.class);
+    static final JavaType TOUR_SPOT_PAGE_TYPE = TypeFactory.defaultInstance()
+            .constructParametricType(CachedPage.class, TourSpotListDto.class);
+    private static final JavaType FACET_MAP_TYPE = TypeFactory.defaultInstance()
+            .constructMapType(LinkedHashMap.class, TypeFactory.defaultInstance().constructType(String.class),
+                    TypeFactory.defaultInstance().constructCollectionType(List.class, FacetBucketDto.class));
     
     // 의존성 주입
     private final ElasticsearchOperations elasticsearchOperations;
     private final MemberRepository memberRepository;
     private final BookmarkRepository bookmarkRepository;
+    private final SearchCacheService searchCacheService;
+    private final SearchRequestCoalescer searchRequestCoalescer;
+    private final SearchMetrics searchMetrics;
+
+    // 이 페이지 번호 미만의 목록만 캐시 (깊은 페이지는 재사용률이 낮음)
+    @Value("${search.cache.max-page:5}")
+    private int cacheMaxPage;
+
+    // 목록 검색의 전체 건수를 이 값까지만 정확히 셈 (넘으면 "N+"로 표시, 넓은 ngram 검색의 건수 계산 비용 절감)
+    @Value("${search.track-total-hits-up-to:10000}")
+    private int trackTotalHitsUpTo;
+
+    // 결과가 없으면 첫 번째 추천 검색어로 바로 다시 검색할지 여부 (false면 추천 목록만 응답)
+    @Value("${search.did-you-mean.auto-rerun:false}")
+    private boolean didYouMeanAutoRerun;
 
     /**
      * 다이어리 검색
@@ -65,36 +158,159 @@ public class SearchService {
      * @param maxPrice 최대 가격
      * @param areaCode 지역 코드
      * @param sigunguCode 시군구 코드
+     * @param fields 응답에 포함할 DTO 필드 목록 (쉼표 구분, 없으면 전체)
+     * @param facets 지역/시군구/경비 구간별 건수를 같은 요청에서 함께 집계할지 여부
      * @return 다이어리 검색 결과
      */
     public Page<DiarySearchListDto> diarySearch(int page, int size, String keyword, String sort,
-                                                int minPrice, int maxPrice, String areaCode, String sigunguCode) {
+                                                int minPrice, int maxPrice, String areaCode, String sigunguCode,
+                                                String fields, boolean facets) {
         
         log.debug("다이어리 검색: keyword={}, page={}, size={}, area={}, sigungu={}, price={}~{}", 
                 keyword, page, size, areaCode, sigunguCode, minPrice, maxPrice);
                 
         // 페이징 및 정렬 설정
-        Pageable pageable = createPageable(page, size, sort, Sort.by(Sort.Direction.DESC, "_score"));
+        Pageable pageable = createDiaryListPageable(page, size, sort);
+        String cacheKey = createCacheKey(page, size, sort, keyword, minPrice, maxPrice, areaCode, sigunguCode, fields, facets);
+        if (page >= cacheMaxPage) {
+            return searchRequestCoalescer.execute("diary-page:" + cacheKey,
+                    () -> executeDiarySearch(pageable, keyword, minPrice, maxPrice, areaCode, sigunguCode, fields, facets));
+        }
         
+        // 동시에 들어온 같은 조건의 요청은 캐시 조회부터 하나로 병합
+        CachedPage<DiarySearchListDto> result = searchRequestCoalescer.execute("diary:" + cacheKey,
+                () -> searchCacheService.getOrLoad("diary", cacheKey, DIARY_PAGE_TYPE,
+                        () -> CachedPage.from(executeDiarySearch(pageable, keyword, minPrice, maxPrice, areaCode, sigunguCode, fields, facets))));
+        return result.toPage(pageable);
+    }
+
+    /**
+     * 기본 검색 조건의 다이어리 검색 첫 페이지를 캐시에 있든 없든 다시 조회해 저장 (인기 검색어 미리 채우기용)
+     * 캐시 키는 diarySearch(0, size, keyword, 기본값...)와 같습니다.
+     */
+    public void refreshDiarySearchCache(int size, String keyword) {
+        Pageable pageable = createDiaryListPageable(0, size, null);
+        String cacheKey = createCacheKey(0, size, null, keyword, 0, 0, null, null, null, false);
+        searchCacheService.refresh("diary", cacheKey,
+                () -> CachedPage.from(executeDiarySearch(pageable, keyword, 0, 0, null, null, null, false)));
+    }
+
+    /**
+     * 다이어리 검색 실행 (캐시 미스 시)
+     */
+    private SearchPageDto<DiarySearchListDto> executeDiarySearch(Pageable pageable, String keyword, int minPrice, int maxPrice,
+                                                                 String areaCode, String sigunguCode, String fields,
+                                                                 boolean facets) {
+        SearchPageDto<DiarySearchListDto> result = searchDiaryPage(pageable, keyword, minPrice, maxPrice, areaCode, sigunguCode, fields, facets);
+        String corrected = correctionToRerun(result);
+        if (corrected != null) {
+            return searchDiaryPage(pageable, corrected, minPrice, maxPrice, areaCode, sigunguCode, fields, facets)
+                    .withCorrection(corrected, result.getSuggestions());
+        }
+        return result;
+    }
+
+    private SearchPageDto<DiarySearchListDto> searchDiaryPage(Pageable pageable, String keyword, int minPrice, int maxPrice,
+                                                              String areaCode, String sigunguCode, String fields,
+                                                              boolean facets) {
+        String shape = diaryQueryShape(keyword, minPrice, maxPrice, areaCode, sigunguCode);
+        Query query = searchMetrics.record("diarySearch", "build", shape,
+                () -> createDiaryListQuery(pageable, keyword, minPrice, maxPrice, areaCode, sigunguCode, fields, facets));
+        SearchHits<Diary> searchHits = search("diarySearch", shape, query, Diary.class);
+        return toDiarySearchPage(searchHits, pageable, facets, shape);
+    }
+
+    /**
+     * 다이어리 검색 조건의 쿼리 형태 (지표 태그용)
+     */
+    static String diaryQueryShape(String keyword, int minPrice, int maxPrice, String areaCode, String sigunguCode) {
+        return SearchMetrics.shape(keyword, areaCode != null || sigunguCode != null || minPrice != 0 || maxPrice != 0);
+    }
+
+    /**
+     * 다이어리 목록 페이징 설정 (기본 정렬: 검색 점수)
+     */
+    Pageable createDiaryListPageable(int page, int size, String sort) {
+        return createPageable(page, size, sort, Sort.by(Sort.Direction.DESC, "_score"));
+    }
+
+    /**
+     * 다이어리 목록 검색 쿼리 생성 (공개 다이어리만)
+     */
+    Query createDiaryListQuery(Pageable pageable, String keyword, int minPrice, int maxPrice,
+                               String areaCode, String sigunguCode, String fields, boolean facets) {
         // 쿼리 빌더 생성 및 검색 조건 설정
         BoolQueryBuilder boolQuery = createDiarySearchQuery(keyword, minPrice, maxPrice, areaCode, sigunguCode);
         boolQuery.filter(termQuery("is_public", true));
         
-        Query query = buildQuery(boolQuery, pageable);
-        
-        // 검색 실행
-        SearchHits<Diary> searchHits = elasticsearchOperations.search(query, Diary.class);
+        NativeSearchQuery query = buildQuery(boolQuery, pageable, createSourceFilter(fields, DIARY_LIST_FIELDS, "diary_id"),
+                facets ? createDiaryFacetAggregations() : List.of());
+        query.setTrackTotalHitsUpTo(trackTotalHitsUpTo);
+        addDidYouMeanSuggest(query, pageable, keyword);
+        return query;
+    }
+
+    /**
+     * 다이어리 검색 결과를 목록 페이지로 변환 (작성자 스냅샷이 없는 문서는 MySQL 조회)
+     */
+    SearchPageDto<DiarySearchListDto> toDiarySearchPage(SearchHits<Diary> searchHits, Pageable pageable, boolean facets,
+                                                        String shape) {
+        Map<String, List<FacetBucketDto>> facetMap = facets ? extractFacets(searchHits) : null;
         if (searchHits.isEmpty()) {
-            log.debug("검색 결과 없음: keyword={}", keyword);
-            return Page.empty(pageable);
+            log.debug("다이어리 검색 결과 없음");
+            return new SearchPageDto<>(List.of(), pageable, 0, true, facetMap, extractSuggestions(searchHits), null);
         }
         
         // 결과 처리
         List<Diary> diaries = extractContentsFromHits(searchHits);
-        Map<Long, Member> memberMap = getMemberMap(diaries);
-        List<DiarySearchListDto> dtoList = mapToDiaryDtoList(diaries, memberMap);
+        List<DiarySearchListDto> dtoList = hydrateDiaries("diarySearch", shape, diaries);
         
-        return new PageImpl<>(dtoList, pageable, searchHits.getTotalHits());
+        return new SearchPageDto<>(dtoList, pageable, searchHits.getTotalHits(), isTotalExact(searchHits), facetMap);
+    }
+
+    /**
+     * 다이어리 필터별 건수만 조회 (size=0, 목록 없이 집계만 실행)
+     * 같은 필터 조건의 결과는 검색 캐시에 보관합니다.
+     *
+     * @return 필터 항목(area_code, sigungu_code, total_cost) -> 값별 건수
+     */
+    public Map<String, List<FacetBucketDto>> getDiaryFacets(String keyword, int minPrice, int maxPrice,
+                                                            String areaCode, String sigunguCode) {
+        String cacheKey = createCacheKey(keyword, minPrice, maxPrice, areaCode, sigunguCode);
+        return searchCacheService.getOrLoad("diary-facet", cacheKey, FACET_MAP_TYPE, () -> {
+            BoolQueryBuilder boolQuery = createDiarySearchQuery(keyword, minPrice, maxPrice, areaCode, sigunguCode);
+            boolQuery.filter(termQuery("is_public", true));
+            return searchFacetsOnly("getDiaryFacets", diaryQueryShape(keyword, minPrice, maxPrice, areaCode, sigunguCode),
+                    boolQuery, createDiaryFacetAggregations(), Diary.class);
+        });
+    }
+
+    /**
+     * 다이어리 검색 (커서 기반 무한 스크롤)
+     * from/size 대신 search_after를 사용하므로 깊은 페이지도 첫 페이지와 비용이 같습니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size 페이지 크기
+     * @return 다이어리 목록과 다음 커서
+     */
+    public CursorPageDto<DiarySearchListDto> diarySearchByCursor(String cursor, int size, String keyword, String sort,
+                                                                 int minPrice, int maxPrice, String areaCode, String sigunguCode,
+                                                                 String fields) {
+
+        log.debug("다이어리 커서 검색: keyword={}, cursor={}, size={}", keyword, cursor, size);
+
+        Pageable pageable = createPageable(0, size + 1, sort, Sort.by(Sort.Direction.DESC, "_score"));
+
+        BoolQueryBuilder boolQuery = createDiarySearchQuery(keyword, minPrice, maxPrice, areaCode, sigunguCode);
+        boolQuery.filter(termQuery("is_public", true));
+
+        Query query = buildCursorQuery(boolQuery, pageable, "diary_id", cursor,
+                createSourceFilter(fields, DIARY_LIST_FIELDS, "diary_id"));
+
+        String shape = diaryQueryShape(keyword, minPrice, maxPrice, areaCode, sigunguCode);
+        SearchHits<Diary> searchHits = search("diarySearchByCursor", shape, query, Diary.class);
+        return toCursorPage(searchHits, size, hits -> hydrateDiaries("diarySearchByCursor", shape,
+                hits.stream().map(SearchHit::getContent).toList()));
     }
     
     /**
@@ -130,8 +346,8 @@ public class SearchService {
         if (keyword.startsWith("#")) {
             addTagSearchCondition(boolQuery, keyword);
         } else {
-            // 일반 검색: title, content, region에서 검색
-            boolQuery.must(QueryBuilders.multiMatchQuery(keyword, "title.ngram", "content", "region"));
+            // 일반 검색: title, 본문(HTML 태그 제거), region에서 검색
+            boolQuery.must(QueryBuilders.multiMatchQuery(keyword, "title.ngram", "plain_content", "region"));
         }
     }
     
@@ -184,44 +400,203 @@ public class SearchService {
      * 
      * @param page 페이지 번호
      * @param size 페이지 크기
-     * @param sort 정렬 방식
+     * @param sort 정렬 방식 (필드명,방향 또는 popular: 평점/리뷰/북마크 반영 인기순)
      * @param keyword 검색 키워드
      * @param areaCode 지역 코드
      * @param sigunguCode 시군구 코드
      * @param classifiedTypeId 분류 타입 ID
+     * @param fields 응답에 포함할 DTO 필드 목록 (쉼표 구분, 없으면 전체)
+     * @param facets 지역/시군구/분류별 건수를 같은 요청에서 함께 집계할지 여부
      * @return 관광지 검색 결과
      */
     public Page<TourSpotListDto> searchTourSpots(int page, int size, String sort, String keyword,
-                                              String areaCode, String sigunguCode, String classifiedTypeId) {
+                                              String areaCode, String sigunguCode, String classifiedTypeId,
+                                              String fields, boolean facets) {
         
         log.debug("관광지 검색: keyword={}, page={}, size={}, area={}, sigungu={}, type={}", 
                 keyword, page, size, areaCode, sigunguCode, classifiedTypeId);
                 
-        // 페이징 및 정렬 설정 - title 필드는 sort_title로 변환
-        Pageable pageable = createPageableWithFieldMapping(page, size, sort, 
+        // 페이징 및 정렬 설정
+        Pageable pageable = createTourSpotListPageable(page, size, sort);
+        String cacheKey = createCacheKey(page, size, sort, keyword, areaCode, sigunguCode, classifiedTypeId, fields, facets);
+        if (page >= cacheMaxPage) {
+            return searchRequestCoalescer.execute("tour-page:" + cacheKey,
+                    () -> executeTourSpotSearch(pageable, sort, keyword, areaCode, sigunguCode, classifiedTypeId, fields, facets));
+        }
+        
+        // 동시에 들어온 같은 조건의 요청은 캐시 조회부터 하나로 병합
+        CachedPage<TourSpotListDto> result = searchRequestCoalescer.execute("tour:" + cacheKey,
+                () -> searchCacheService.getOrLoad("tour", cacheKey, TOUR_SPOT_PAGE_TYPE,
+                        () -> CachedPage.from(executeTourSpotSearch(pageable, sort, keyword, areaCode, sigunguCode, classifiedTypeId, fields, facets))));
+        return result.toPage(pageable);
+    }
+
+    /**
+     * 기본 검색 조건의 관광지 검색 첫 페이지를 캐시에 있든 없든 다시 조회해 저장 (인기 검색어 미리 채우기용)
+     * 캐시 키는 searchTourSpots(0, size, null, keyword, 기본값...)와 같습니다.
+     */
+    public void refreshTourSpotSearchCache(int size, String keyword) {
+        Pageable pageable = createTourSpotListPageable(0, size, null);
+        String cacheKey = createCacheKey(0, size, null, keyword, null, null, null, null, false);
+        searchCacheService.refresh("tour", cacheKey,
+                () -> CachedPage.from(executeTourSpotSearch(pageable, null, keyword, null, null, null, null, false)));
+    }
+
+    /**
+     * 관광지 검색 실행 (캐시 미스 시)
+     */
+    private SearchPageDto<TourSpotListDto> executeTourSpotSearch(Pageable pageable, String sort, String keyword, String areaCode,
+                                                                 String sigunguCode, String classifiedTypeId, String fields,
+                                                                 boolean facets) {
+        SearchPageDto<TourSpotListDto> result = searchTourSpotPage(pageable, sort, keyword, areaCode, sigunguCode, classifiedTypeId, fields, facets);
+        String corrected = correctionToRerun(result);
+        if (corrected != null) {
+            return searchTourSpotPage(pageable, sort, corrected, areaCode, sigunguCode, classifiedTypeId, fields, facets)
+                    .withCorrection(corrected, result.getSuggestions());
+        }
+        return result;
+    }
+
+    private SearchPageDto<TourSpotListDto> searchTourSpotPage(Pageable pageable, String sort, String keyword, String areaCode,
+                                                              String sigunguCode, String classifiedTypeId, String fields,
+                                                              boolean facets) {
+        String shape = tourSpotQueryShape(keyword, areaCode, sigunguCode, classifiedTypeId);
+        Query query = searchMetrics.record("searchTourSpots", "build", shape,
+                () -> createTourSpotListQuery(pageable, sort, keyword, areaCode, sigunguCode, classifiedTypeId, fields, facets));
+        SearchHits<TourSpots> searchHits = search("searchTourSpots", shape, query, TourSpots.class);
+        return toTourSpotSearchPage(searchHits, pageable, facets, shape);
+    }
+
+    /**
+     * 관광지 검색 조건의 쿼리 형태 (지표 태그용)
+     */
+    static String tourSpotQueryShape(String keyword, String areaCode, String sigunguCode, String classifiedTypeId) {
+        return SearchMetrics.shape(keyword, areaCode != null || sigunguCode != null || classifiedTypeId != null);
+    }
+
+    /**
+     * 관광지 목록 페이징 설정 (기본 정렬: 검색 점수, title 필드는 sort_title로 변환)
+     * 인기순은 function_score 점수 순으로 정렬합니다.
+     */
+    Pageable createTourSpotListPageable(int page, int size, String sort) {
+        if (POPULAR_SORT.equals(sort)) {
+            return PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "_score"));
+        }
+        return createPageableWithFieldMapping(page, size, sort,
                 Sort.by(Sort.Direction.DESC, "_score"),
                 Map.of("title", "sort_title"));
-        
+    }
+
+    /**
+     * 관광지 목록 검색 쿼리 생성 (sort=popular면 인기 점수 반영)
+     */
+    Query createTourSpotListQuery(Pageable pageable, String sort, String keyword, String areaCode, String sigunguCode,
+                                  String classifiedTypeId, String fields, boolean facets) {
         // 쿼리 빌더 생성 및 검색 조건 설정
         BoolQueryBuilder boolQuery = createTourSpotSearchQuery(keyword, areaCode, sigunguCode, classifiedTypeId);
-        Query query = buildQuery(boolQuery, pageable);
-        
-        // 검색 실행
-        SearchHits<TourSpots> searchHits = elasticsearchOperations.search(query, TourSpots.class);
+        QueryBuilder searchQuery = POPULAR_SORT.equals(sort) ? createPopularityQuery(boolQuery) : boolQuery;
+        NativeSearchQuery query = buildQuery(searchQuery, pageable, createSourceFilter(fields, TOUR_SPOT_LIST_FIELDS, "content_id"),
+                facets ? createTourSpotFacetAggregations() : List.of());
+        query.setTrackTotalHitsUpTo(trackTotalHitsUpTo);
+        addDidYouMeanSuggest(query, pageable, keyword);
+        return query;
+    }
+
+    /**
+     * 검색 점수에 인기 점수를 곱하는 function_score 쿼리 (ES에서 계산하므로 첫 페이지부터 인기순)
+     * 평점/리뷰/북마크가 없는 관광지도 가중치 1 덕분에 검색 점수 순서는 유지됩니다.
+     */
+    private static QueryBuilder createPopularityQuery(BoolQueryBuilder boolQuery) {
+        FunctionScoreQueryBuilder.FilterFunctionBuilder[] functions = {
+                new FunctionScoreQueryBuilder.FilterFunctionBuilder(ScoreFunctionBuilders.weightFactorFunction(1.0f)),
+                new FunctionScoreQueryBuilder.FilterFunctionBuilder(ScoreFunctionBuilders.fieldValueFactorFunction("avg_rating")
+                        .modifier(FieldValueFactorFunction.Modifier.LOG1P).missing(0)
+                        .setWeight(POPULAR_RATING_WEIGHT)),
+                new FunctionScoreQueryBuilder.FilterFunctionBuilder(ScoreFunctionBuilders.fieldValueFactorFunction("review_count")
+                        .modifier(FieldValueFactorFunction.Modifier.LOG1P).missing(0)
+                        .setWeight(POPULAR_REVIEW_WEIGHT)),
+                new FunctionScoreQueryBuilder.FilterFunctionBuilder(ScoreFunctionBuilders.fieldValueFactorFunction("bookmark_count")
+                        .modifier(FieldValueFactorFunction.Modifier.LOG1P).missing(0)
+                        .setWeight(POPULAR_BOOKMARK_WEIGHT)),
+                new FunctionScoreQueryBuilder.FilterFunctionBuilder(ScoreFunctionBuilders.gaussDecayFunction("modified_time", "now", "365d", "30d", 0.5)
+                        .setWeight(POPULAR_FRESHNESS_WEIGHT))
+        };
+        return QueryBuilders.functionScoreQuery(boolQuery, functions)
+                .scoreMode(FunctionScoreQuery.ScoreMode.SUM)
+                .boostMode(CombineFunction.MULTIPLY);
+    }
+
+    /**
+     * 관광지 검색 결과를 목록 페이지로 변환
+     */
+    SearchPageDto<TourSpotListDto> toTourSpotSearchPage(SearchHits<TourSpots> searchHits, Pageable pageable, boolean facets,
+                                                        String shape) {
+        Map<String, List<FacetBucketDto>> facetMap = facets ? extractFacets(searchHits) : null;
         if (searchHits.isEmpty()) {
-            log.debug("관광지 검색 결과 없음: keyword={}", keyword);
-            return Page.empty(pageable);
+            log.debug("관광지 검색 결과 없음");
+            return new SearchPageDto<>(List.of(), pageable, 0, true, facetMap, extractSuggestions(searchHits), null);
         }
         
         // 결과 처리
-        List<TourSpotListDto> dtoList = searchHits.getSearchHits().stream()
+        List<TourSpotListDto> dtoList = searchMetrics.record("searchTourSpots", "mapping", shape,
+                () -> searchHits.getSearchHits().stream()
+                        .map(SearchHit::getContent)
+                        .map(TourSpots::convertToListDto)
+                        .collect(Collectors.toList()));
+                
+        return new SearchPageDto<>(dtoList, pageable, searchHits.getTotalHits(), isTotalExact(searchHits), facetMap);
+    }
+
+    /**
+     * 관광지 필터별 건수만 조회 (size=0, 목록 없이 집계만 실행)
+     * 같은 필터 조건의 결과는 검색 캐시에 보관합니다.
+     *
+     * @return 필터 항목(area_code, sigungu_code, classified_type_id) -> 값별 건수
+     */
+    public Map<String, List<FacetBucketDto>> getTourSpotFacets(String keyword, String areaCode, String sigunguCode,
+                                                               String classifiedTypeId) {
+        String cacheKey = createCacheKey(keyword, areaCode, sigunguCode, classifiedTypeId);
+        return searchCacheService.getOrLoad("tour-facet", cacheKey, FACET_MAP_TYPE, () -> searchFacetsOnly(
+                "getTourSpotFacets", tourSpotQueryShape(keyword, areaCode, sigunguCode, classifiedTypeId),
+                createTourSpotSearchQuery(keyword, areaCode, sigunguCode, classifiedTypeId),
+                createTourSpotFacetAggregations(), TourSpots.class));
+    }
+
+    /**
+     * 관광지 검색 (커서 기반 무한 스크롤)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size 페이지 크기
+     * @return 관광지 목록과 다음 커서
+     */
+    public CursorPageDto<TourSpotListDto> searchTourSpotsByCursor(String cursor, int size, String sort, String keyword,
+                                                                  String areaCode, String sigunguCode, String classifiedTypeId,
+                                                                  String fields) {
+
+        log.debug("관광지 커서 검색: keyword={}, cursor={}, size={}", keyword, cursor, size);
+
+        Query query = createTourSpotCursorQuery(cursor, size, sort, keyword, areaCode, sigunguCode, classifiedTypeId, fields);
+
+        SearchHits<TourSpots> searchHits = search("searchTourSpotsByCursor",
+                tourSpotQueryShape(keyword, areaCode, sigunguCode, classifiedTypeId), query, TourSpots.class);
+        return toCursorPage(searchHits, size, hits -> hits.stream()
                 .map(SearchHit::getContent)
                 .map(TourSpots::convertToListDto)
-                .collect(Collectors.toList());
-                
-        return new PageImpl<>(dtoList, pageable, searchHits.getTotalHits());
+                .toList());
     }
     
+    /**
+     * 관광지 커서 검색 쿼리 생성 (size + 1건 조회, sort=popular면 페이지 검색과 같은 인기 점수 반영)
+     */
+    Query createTourSpotCursorQuery(String cursor, int size, String sort, String keyword, String areaCode,
+                                    String sigunguCode, String classifiedTypeId, String fields) {
+        Pageable pageable = createTourSpotListPageable(0, size + 1, sort);
+        BoolQueryBuilder boolQuery = createTourSpotSearchQuery(keyword, areaCode, sigunguCode, classifiedTypeId);
+        QueryBuilder searchQuery = POPULAR_SORT.equals(sort) ? createPopularityQuery(boolQuery) : boolQuery;
+        return buildCursorQuery(searchQuery, pageable, "content_id", cursor,
+                createSourceFilter(fields, TOUR_SPOT_LIST_FIELDS, "content_id"));
+    }
+
     /**
      * 관광지 검색 쿼리 생성
      */
@@ -274,9 +649,9 @@ public class SearchService {
         BoolQueryBuilder boolQuery = boolQuery()
                 .filter(termQuery("member_id", author.getId()));
                 
-        Query query = buildQuery(boolQuery, pageable);
+        Query query = buildQuery(boolQuery, pageable, DIARY_LIST_SOURCE);
         
-        return executeDiarySearchForUser(query, pageable, author);
+        return executeDiarySearchForUser("getMyDiaryList", query, pageable, author);
     }
 
     /**
@@ -298,18 +673,19 @@ public class SearchService {
                 .filter(termQuery("member_id", author.getId()))
                 .filter(termQuery("is_public", true));
                 
-        Query query = buildQuery(boolQuery, pageable);
+        Query query = buildQuery(boolQuery, pageable, DIARY_LIST_SOURCE);
         
-        return executeDiarySearchForUser(query, pageable, author);
+        return executeDiarySearchForUser("getOtherUserDiaryList", query, pageable, author);
     }
 
     /**
      * 북마크한 다이어리 목록 조회
+     * 북마크 테이블에서 해당 페이지만 읽고, 그 페이지의 다이어리만 ES에서 조회합니다.
      * 
      * @param userId 사용자 ID
      * @param page 페이지 번호
      * @param size 페이지 크기
-     * @return 북마크한 다이어리 목록
+     * @return 북마크한 다이어리 목록 (최근 북마크 순)
      */
     public Page<DiarySearchListDto> getBookmarkedDiaries(String userId, int page, int size) {
         log.debug("북마크한 다이어리 목록 조회: userId={}, page={}, size={}", userId, page, size);
@@ -317,29 +693,32 @@ public class SearchService {
         Pageable pageable = PageRequest.of(page, size);
         Member member = findMemberByUserId(userId);
         
-        // 북마크한 다이어리 ID 목록 조회
-        List<String> bookmarkedIds = getBookmarkedIdsByType(member, Type.DIARY);
-        if (bookmarkedIds.isEmpty()) {
-            return Page.empty(pageable);
-        }
-        
-        // 북마크한 공개 다이어리만 조회
-        BoolQueryBuilder boolQuery = boolQuery()
-                .filter(termsQuery("diary_id", bookmarkedIds))
-                .filter(termQuery("is_public", true));
-                
-        Query query = buildQuery(boolQuery, pageable);
-        
-        return executeDiarySearchForUser(query, pageable, member);
+        Page<Bookmark> bookmarks = bookmarkRepository.findByMemberAndTypeOrderByIdDesc(member, Type.DIARY, pageable);
+        return new PageImpl<>(findBookmarkedDiaries(bookmarks.getContent()), pageable, bookmarks.getTotalElements());
+    }
+
+    /**
+     * 북마크한 다이어리 목록 조회 (북마크 ID 기준 keyset, 무한 스크롤)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 빈 값)
+     */
+    public CursorPageDto<DiarySearchListDto> getBookmarkedDiariesByCursor(String userId, String cursor, int size) {
+        log.debug("북마크한 다이어리 커서 조회: userId={}, cursor={}, size={}", userId, cursor, size);
+
+        Member member = findMemberByUserId(userId);
+        List<Bookmark> bookmarks = bookmarkRepository.findByMemberAndTypeAndIdLessThanOrderByIdDesc(
+                member, Type.DIARY, decodeBookmarkCursor(cursor), PageRequest.of(0, size + 1));
+        return toBookmarkCursorPage(bookmarks, size, this::findBookmarkedDiaries);
     }
 
     /**
      * 북마크한 관광지 목록 조회
+     * 북마크 테이블에서 해당 페이지만 읽고, 그 페이지의 관광지만 ES에서 조회합니다.
      * 
      * @param userId 사용자 ID
      * @param page 페이지 번호
      * @param size 페이지 크기
-     * @return 북마크한 관광지 목록
+     * @return 북마크한 관광지 목록 (최근 북마크 순)
      */
     public Page<TourSpotListDto> getBookmarkedTourSpots(String userId, int page, int size) {
         log.debug("북마크한 관광지 목록 조회: userId={}, page={}, size={}", userId, page, size);
@@ -347,29 +726,92 @@ public class SearchService {
         Pageable pageable = PageRequest.of(page, size);
         Member member = findMemberByUserId(userId);
         
-        // 북마크한 관광지 ID 목록 조회
-        List<String> bookmarkedIds = getBookmarkedIdsByType(member, Type.TOURSPOT);
-        if (bookmarkedIds.isEmpty()) {
-            return Page.empty(pageable);
+        Page<Bookmark> bookmarks = bookmarkRepository.findByMemberAndTypeOrderByIdDesc(member, Type.TOURSPOT, pageable);
+        return new PageImpl<>(findBookmarkedTourSpots(bookmarks.getContent()), pageable, bookmarks.getTotalElements());
+    }
+
+    /**
+     * 북마크한 관광지 목록 조회 (북마크 ID 기준 keyset, 무한 스크롤)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 빈 값)
+     */
+    public CursorPageDto<TourSpotListDto> getBookmarkedTourSpotsByCursor(String userId, String cursor, int size) {
+        log.debug("북마크한 관광지 커서 조회: userId={}, cursor={}, size={}", userId, cursor, size);
+
+        Member member = findMemberByUserId(userId);
+        List<Bookmark> bookmarks = bookmarkRepository.findByMemberAndTypeAndIdLessThanOrderByIdDesc(
+                member, Type.TOURSPOT, decodeBookmarkCursor(cursor), PageRequest.of(0, size + 1));
+        return toBookmarkCursorPage(bookmarks, size, this::findBookmarkedTourSpots);
+    }
+
+    /**
+     * 북마크 한 페이지 분량의 공개 다이어리 조회 (북마크 순서 유지)
+     */
+    private List<DiarySearchListDto> findBookmarkedDiaries(List<Bookmark> bookmarks) {
+        if (bookmarks.isEmpty()) {
+            return List.of();
         }
-        
-        // 북마크한 관광지 조회
+        List<String> ids = bookmarks.stream().map(Bookmark::getBookmarkedId).toList();
         BoolQueryBuilder boolQuery = boolQuery()
-                .filter(termsQuery("content_id", bookmarkedIds));
-                
-        Query query = buildQuery(boolQuery, pageable);
-        
-        SearchHits<TourSpots> searchHits = elasticsearchOperations.search(query, TourSpots.class);
-        if (searchHits.isEmpty()) {
-            return Page.empty(pageable);
+                .filter(termsQuery("diary_id", ids))
+                .filter(termQuery("is_public", true));
+        Query query = buildQuery(boolQuery, PageRequest.of(0, ids.size()), DIARY_LIST_SOURCE);
+        query.setTrackTotalHits(false);
+
+        Map<String, Diary> diaryMap = search("getBookmarkedDiaries", "bookmark", query, Diary.class).stream()
+                .map(SearchHit::getContent)
+                .collect(Collectors.toMap(Diary::getDiaryId, Function.identity(), (a, b) -> a));
+        List<Diary> diaries = ids.stream().map(diaryMap::get).filter(Objects::nonNull).toList();
+        return hydrateDiaries("getBookmarkedDiaries", "bookmark", diaries);
+    }
+
+    /**
+     * 북마크 한 페이지 분량의 관광지 조회 (북마크 순서 유지)
+     */
+    private List<TourSpotListDto> findBookmarkedTourSpots(List<Bookmark> bookmarks) {
+        if (bookmarks.isEmpty()) {
+            return List.of();
         }
-        
-        List<TourSpotListDto> dtoList = searchHits.getSearchHits().stream()
+        List<String> ids = bookmarks.stream().map(Bookmark::getBookmarkedId).toList();
+        Query query = buildQuery(boolQuery().filter(termsQuery("content_id", ids)),
+                PageRequest.of(0, ids.size()), TOUR_SPOT_LIST_SOURCE);
+        query.setTrackTotalHits(false);
+
+        Map<String, TourSpots> spotMap = search("getBookmarkedTourSpots", "bookmark", query, TourSpots.class).stream()
                 .map(SearchHit::getContent)
+                .collect(Collectors.toMap(TourSpots::getContentId, Function.identity(), (a, b) -> a));
+        return ids.stream()
+                .map(spotMap::get)
+                .filter(Objects::nonNull)
                 .map(TourSpots::convertToListDto)
-                .collect(Collectors.toList());
-                
-        return new PageImpl<>(dtoList, pageable, searchHits.getTotalHits());
+                .toList();
+    }
+
+    /**
+     * 북마크 목록을 커서 페이지로 변환 (size + 1건을 조회해 다음 페이지 여부 판단, 커서는 마지막 북마크 ID)
+     */
+    private <D> CursorPageDto<D> toBookmarkCursorPage(List<Bookmark> bookmarks, int size,
+                                                      Function<List<Bookmark>, List<D>> loader) {
+        boolean hasNext = bookmarks.size() > size;
+        List<Bookmark> pageBookmarks = hasNext ? bookmarks.subList(0, size) : bookmarks;
+
+        return CursorPageDto.<D>builder()
+                .content(loader.apply(pageBookmarks))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? String.valueOf(pageBookmarks.get(pageBookmarks.size() - 1).getId()) : null)
+                .build();
+    }
+
+    private Long decodeBookmarkCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
     }
 
     /**
@@ -384,41 +826,52 @@ public class SearchService {
         Map<String, List<TourSpotListDto>> resultMap = new HashMap<>();
         Pageable pageable = PageRequest.of(0, RECOMMEND_COUNT);
         
+        // 유효한 키워드만 모아서 한 번의 _msearch 요청으로 조회
+        List<String> searchKeywords = new ArrayList<>();
         for (String keyword : keywords) {
             if (keyword == null || keyword.trim().isEmpty()) {
                 resultMap.put(keyword, List.of());
-                continue;
+            } else if (!searchKeywords.contains(keyword)) {
+                searchKeywords.add(keyword);
             }
-            
-            resultMap.put(keyword, getRecommendedSpotsByKeyword(keyword, pageable));
+        }
+        if (searchKeywords.isEmpty()) {
+            return resultMap;
+        }
+        
+        List<Query> queries = searchKeywords.stream()
+                .map(keyword -> createRecommendQuery(keyword, pageable))
+                .toList();
+        List<SearchHits<TourSpots>> results = searchMetrics.record("get10SpotsRecommend", "es", "recommend",
+                () -> elasticsearchOperations.multiSearch(queries, TourSpots.class));
+        
+        // 응답 순서는 요청 순서와 동일
+        for (int i = 0; i < searchKeywords.size(); i++) {
+            resultMap.put(searchKeywords.get(i), results.get(i).getSearchHits().stream()
+                    .map(SearchHit::getContent)
+                    .map(TourSpots::convertToSimpleDto)
+                    .collect(Collectors.toList()));
         }
         
         return resultMap;
     }
     
     /**
-     * 키워드 기반 관광지 추천 목록 조회
+     * 키워드 기반 관광지 추천 쿼리 생성
      */
-    private List<TourSpotListDto> getRecommendedSpotsByKeyword(String keyword, Pageable pageable) {
+    private Query createRecommendQuery(String keyword, Pageable pageable) {
         BoolQueryBuilder boolQuery = boolQuery()
                 .should(QueryBuilders.matchPhraseQuery("title", keyword))
                 .minimumShouldMatch(1);
                 
-        Query query = buildQuery(boolQuery, pageable);
-        
-        SearchHits<TourSpots> searchHits = elasticsearchOperations.search(query, TourSpots.class);
-        
-        return searchHits.getSearchHits().stream()
-                .map(SearchHit::getContent)
-                .map(TourSpots::convertToSimpleDto)
-                .collect(Collectors.toList());
+        return buildQuery(boolQuery, pageable, TOUR_SPOT_SIMPLE_SOURCE);
     }
     
     /**
      * 특정 사용자에 대한 다이어리 검색 실행
      */
-    private Page<DiarySearchListDto> executeDiarySearchForUser(Query query, Pageable pageable, Member member) {
-        SearchHits<Diary> searchHits = elasticsearchOperations.search(query, Diary.class);
+    private Page<DiarySearchListDto> executeDiarySearchForUser(String method, Query query, Pageable pageable, Member member) {
+        SearchHits<Diary> searchHits = search(method, "member", query, Diary.class);
         if (searchHits.isEmpty()) {
             log.debug("사용자 다이어리 검색 결과 없음: memberId={}", member.getId());
             return Page.empty(pageable);
@@ -426,7 +879,8 @@ public class SearchService {
         
         List<Diary> diaries = extractContentsFromHits(searchHits);
         Map<Long, Member> memberMap = Collections.singletonMap(member.getId(), member);
-        List<DiarySearchListDto> dtoList = mapToDiaryDtoList(diaries, memberMap);
+        List<DiarySearchListDto> dtoList = searchMetrics.record(method, "mapping", "member",
+                () -> mapToDiaryDtoList(diaries, memberMap));
         
         return new PageImpl<>(dtoList, pageable, searchHits.getTotalHits());
     }
@@ -439,16 +893,6 @@ public class SearchService {
                 .orElseThrow(() -> ResourceNotFoundException.memberNotFound(userId));
     }
     
-    /**
-     * 회원의 북마크 ID 목록 조회 (타입별)
-     */
-    private List<String> getBookmarkedIdsByType(Member member, Type type) {
-        List<Bookmark> bookmarks = bookmarkRepository.findByMemberAndType(member, type);
-        return bookmarks.stream()
-                .map(Bookmark::getBookmarkedId)
-                .collect(Collectors.toList());
-    }
-    
     /**
      * 검색 결과에서 컨텐츠 추출
      */
@@ -501,32 +945,255 @@ public class SearchService {
         return PageRequest.of(page, size, Sort.by(direction, field));
     }
     
+    /**
+     * 검색 조건으로 캐시 키 생성 (앞뒤 공백만 제거, 태그/코드 검색은 대소문자를 구분하므로 그대로 사용)
+     */
+    static String createCacheKey(Object... params) {
+        return Arrays.stream(params)
+                .map(param -> param == null ? "" : param.toString().trim())
+                .collect(Collectors.joining("|"));
+    }
+    
     /**
      * 쿼리 객체 생성
      */
-    private Query buildQuery(BoolQueryBuilder boolQuery, Pageable pageable) {
-        return new NativeSearchQueryBuilder()
+    private Query buildQuery(QueryBuilder boolQuery, Pageable pageable, SourceFilter sourceFilter) {
+        return buildQuery(boolQuery, pageable, sourceFilter, List.of());
+    }
+
+    /**
+     * 쿼리 객체 생성 (집계 포함, 검색과 같은 요청에서 실행)
+     */
+    private NativeSearchQuery buildQuery(QueryBuilder boolQuery, Pageable pageable, SourceFilter sourceFilter,
+                                         List<AbstractAggregationBuilder<?>> aggregations) {
+        NativeSearchQuery query = new NativeSearchQueryBuilder()
                 .withQuery(boolQuery)
                 .withPageable(pageable)
+                .withSourceFilter(sourceFilter)
+                .build();
+        aggregations.forEach(query::addAggregation);
+        return query;
+    }
+
+    /**
+     * 다이어리 필터 집계 (시도, 시군구, 여행경비 구간)
+     */
+    private static List<AbstractAggregationBuilder<?>> createDiaryFacetAggregations() {
+        return List.of(
+                AggregationBuilders.terms("area_code").field("area_code.keyword").size(FACET_SIZE),
+                AggregationBuilders.terms("sigungu_code").field("sigungu_code.keyword").size(FACET_SIZE),
+                AggregationBuilders.range("total_cost").field("total_cost")
+                        .addUnboundedTo("~100000", 100000)
+                        .addRange("100000~300000", 100000, 300000)
+                        .addRange("300000~500000", 300000, 500000)
+                        .addRange("500000~1000000", 500000, 1000000)
+                        .addUnboundedFrom("1000000~", 1000000));
+    }
+
+    /**
+     * 관광지 필터 집계 (시도, 시군구, 분류)
+     */
+    private static List<AbstractAggregationBuilder<?>> createTourSpotFacetAggregations() {
+        return List.of(
+                AggregationBuilders.terms("area_code").field("area_code").size(FACET_SIZE),
+                AggregationBuilders.terms("sigungu_code").field("sigungu_code").size(FACET_SIZE),
+                AggregationBuilders.terms("classified_type_id").field("classified_type_id").size(FACET_SIZE));
+    }
+
+    /**
+     * 첫 페이지 키워드 검색에 제목 오타 교정(phrase suggester)을 함께 요청
+     * 결과가 0건일 때만 응답에 사용하지만, 다시 요청하지 않도록 같은 검색 요청에 포함합니다. (태그 검색 제외)
+     */
+    private static void addDidYouMeanSuggest(NativeSearchQuery query, Pageable pageable, String keyword) {
+        if (pageable.getPageNumber() != 0 || keyword == null || keyword.isBlank() || keyword.startsWith("#")) {
+            return;
+        }
+        PhraseSuggestionBuilder phrase = SuggestBuilders.phraseSuggestion("title")
+                .text(keyword.trim())
+                .size(DID_YOU_MEAN_SIZE)
+                .maxErrors(2.0f)
+                .addCandidateGenerator(new DirectCandidateGeneratorBuilder("title")
+                        .suggestMode("always")
+                        .prefixLength(0) // 첫 글자 오타도 교정
+                        .minWordLength(2)) // 한글 지명은 2~3글자가 많음
+                .collateQuery(DID_YOU_MEAN_COLLATE);
+        query.setSuggestBuilder(new SuggestBuilder().addSuggestion(DID_YOU_MEAN, phrase));
+    }
+
+    /**
+     * 추천 검색어 추출 (없으면 null)
+     */
+    private static List<String> extractSuggestions(SearchHits<?> searchHits) {
+        Suggest suggest = searchHits.getSuggest();
+        if (suggest == null || suggest.getSuggestion(DID_YOU_MEAN) == null) {
+            return null;
+        }
+        List<String> suggestions = suggest.getSuggestion(DID_YOU_MEAN).getEntries().stream()
+                .flatMap(entry -> entry.getOptions().stream())
+                .map(option -> option.getText())
+                .distinct()
+                .toList();
+        return suggestions.isEmpty() ? null : suggestions;
+    }
+
+    /**
+     * 결과가 없고 자동 재검색이 켜져 있으면 다시 검색할 추천 검색어 (아니면 null)
+     */
+    String correctionToRerun(SearchPageDto<?> result) {
+        if (!didYouMeanAutoRerun || !result.isEmpty() || result.getSuggestions() == null) {
+            return null;
+        }
+        return result.getSuggestions().get(0);
+    }
+
+    /**
+     * 문서 없이 집계만 실행 (size=0)
+     */
+    private <T> Map<String, List<FacetBucketDto>> searchFacetsOnly(String method, String shape, BoolQueryBuilder boolQuery,
+                                                                   List<AbstractAggregationBuilder<?>> aggregations,
+                                                                   Class<T> clazz) {
+        NativeSearchQuery query = buildQuery(boolQuery, PageRequest.of(0, 1), null, aggregations);
+        query.setMaxResults(0);
+        return extractFacets(search(method, shape, query, clazz));
+    }
+
+    /**
+     * ES 검색 실행 (단계별 시간 기록, 느린 쿼리 로그)
+     */
+    private <T> SearchHits<T> search(String method, String shape, Query query, Class<T> clazz) {
+        return searchMetrics.recordSearch(method, shape, query, () -> elasticsearchOperations.search(query, clazz));
+    }
+
+    /**
+     * 다이어리 목록 DTO 변환 (작성자 조회와 변환 시간을 나눠 기록)
+     */
+    private List<DiarySearchListDto> hydrateDiaries(String method, String shape, List<Diary> diaries) {
+        Map<Long, Member> memberMap = searchMetrics.record(method, "hydration", shape, () -> getMemberMap(diaries));
+        return searchMetrics.record(method, "mapping", shape, () -> mapToDiaryDtoList(diaries, memberMap));
+    }
+
+    /**
+     * 전체 건수가 정확한 값인지 (track_total_hits 상한을 넘으면 하한값)
+     */
+    private static boolean isTotalExact(SearchHits<?> searchHits) {
+        return searchHits.getTotalHitsRelation() == TotalHitsRelation.EQUAL_TO;
+    }
+
+    /**
+     * 검색 응답의 집계 결과를 필터 항목별 건수로 변환
+     */
+    private static Map<String, List<FacetBucketDto>> extractFacets(SearchHits<?> searchHits) {
+        Map<String, List<FacetBucketDto>> facets = new LinkedHashMap<>();
+        if (!searchHits.hasAggregations()
+                || !(searchHits.getAggregations().aggregations() instanceof Aggregations aggregations)) {
+            return facets;
+        }
+        for (Aggregation aggregation : aggregations) {
+            if (aggregation instanceof MultiBucketsAggregation multiBuckets) {
+                facets.put(aggregation.getName(), multiBuckets.getBuckets().stream()
+                        .map(bucket -> new FacetBucketDto(bucket.getKeyAsString(), bucket.getDocCount()))
+                        .toList());
+            }
+        }
+        return facets;
+    }
+
+    /**
+     * _source 필터 생성
+     * fields(DTO 필드명, 쉼표 구분)가 주어지면 해당 필드만, 없으면 DTO 전체 필드를 가져옵니다.
+     * 알 수 없는 필드명은 무시하며, 식별자 필드는 항상 포함합니다.
+     */
+    private static SourceFilter createSourceFilter(String fields, Map<String, List<String>> fieldMap, String idField) {
+        Set<String> includes = new LinkedHashSet<>();
+        includes.add(idField);
+        if (fields == null || fields.isBlank()) {
+            fieldMap.values().forEach(includes::addAll);
+        } else {
+            Arrays.stream(fields.split(","))
+                    .map(String::trim)
+                    .map(fieldMap::get)
+                    .filter(Objects::nonNull)
+                    .forEach(includes::addAll);
+        }
+        return new FetchSourceFilter(includes.toArray(new String[0]), null);
+    }
+
+    /**
+     * 커서 검색용 쿼리 생성
+     * 정렬 마지막에 고유 필드를 추가해 search_after 위치가 항상 하나로 정해지도록 합니다.
+     */
+    private Query buildCursorQuery(QueryBuilder searchQuery, Pageable pageable, String tiebreakerField, String cursor,
+                                   SourceFilter sourceFilter) {
+        Sort sort = pageable.getSort().and(Sort.by(Sort.Direction.ASC, tiebreakerField));
+        Query query = buildQuery(searchQuery, PageRequest.of(0, pageable.getPageSize(), sort), sourceFilter);
+        query.setTrackTotalHits(false); // 무한 스크롤에서는 전체 건수를 세지 않음
+        if (cursor != null && !cursor.isEmpty()) {
+            query.setSearchAfter(decodeCursor(cursor));
+        }
+        return query;
+    }
+
+    /**
+     * 검색 결과를 커서 페이지로 변환 (size + 1건을 조회해 다음 페이지 여부 판단)
+     */
+    private <T, D> CursorPageDto<D> toCursorPage(SearchHits<T> searchHits, int size,
+                                                 Function<List<SearchHit<T>>, List<D>> mapper) {
+        List<SearchHit<T>> hits = searchHits.getSearchHits();
+        boolean hasNext = hits.size() > size;
+        List<SearchHit<T>> pageHits = hasNext ? hits.subList(0, size) : hits;
+
+        return CursorPageDto.<D>builder()
+                .content(pageHits.isEmpty() ? List.of() : mapper.apply(pageHits))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encodeCursor(pageHits.get(pageHits.size() - 1).getSortValues()) : null)
                 .build();
     }
 
+    /**
+     * 정렬값 목록을 불투명한 커서 문자열로 변환
+     */
+    private String encodeCursor(List<Object> sortValues) {
+        try {
+            byte[] json = CURSOR_MAPPER.writeValueAsBytes(sortValues);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            log.error("커서 생성 실패: {}", e.getMessage());
+            throw new IllegalStateException("커서를 생성하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 커서 문자열을 search_after 정렬값 목록으로 복원
+     */
+    private List<Object> decodeCursor(String cursor) {
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return CURSOR_MAPPER.readValue(json, new TypeReference<List<Object>>() {});
+        } catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
     /**
      * 다이어리 리스트를 DTO로 변환
      */
     private List<DiarySearchListDto> mapToDiaryDtoList(List<Diary> diaries, Map<Long, Member> memberMap) {
         return diaries.stream()
                 .map(diary -> {
-                    Member author = memberMap.get(diary.getMemberId());
-                    String plainContent = stripHtmlTags(diary.getContent());
+                    // 작성자 스냅샷이 없는 문서만 회원 정보 사용
+                    boolean hasSnapshot = diary.getWriterNickname() != null;
+                    Member author = hasSnapshot ? null : memberMap.get(diary.getMemberId());
+                    String writer = hasSnapshot ? diary.getWriterNickname() : author != null ? author.getNickname() : null;
+                    String writerImg = hasSnapshot ? diary.getWriterImg() : author != null ? author.getImgPath() : null;
                     
                     return DiarySearchListDto.builder()
                             .diaryId(diary.getDiaryId())
                             .title(diary.getTitle())
-                            .contentSummary(createContentSummary(plainContent))
-                            .thumbnail(extractFirstImageSrc(diary.getContent()))
-                            .writer(author.getNickname())
-                            .writerImg(author.getImgPath())
+                            .contentSummary(diary.getContentSummary())
+                            .thumbnail(diary.getThumbnail())
+                            .writer(writer)
+                            .writerImg(writerImg)
                             .createdAt(diary.getCreatedTime())
                             .startDate(diary.getStartDate())
                             .endDate(diary.getEndDate())
@@ -537,52 +1204,21 @@ public class SearchService {
     }
     
     /**
-     * 컨텐츠 요약 생성
-     */
-    private String createContentSummary(String content) {
-        if (content == null || content.length() <= CONTENT_SUMMARY_MAX_LENGTH) {
-            return content;
-        }
-        return content.substring(0, CONTENT_SUMMARY_MAX_LENGTH) + "...";
-    }
-
-    /**
-     * 다이어리 멤버 맵 생성
+     * 다이어리 멤버 맵 생성 (작성자 스냅샷이 없는 문서의 작성자만 조회)
      */
     private Map<Long, Member> getMemberMap(List<Diary> diaries) {
         List<Long> memberIdList = diaries.stream()
+                .filter(diary -> diary.getWriterNickname() == null)
                 .map(Diary::getMemberId)
+                .filter(Objects::nonNull)
                 .distinct()
                 .toList();
+        if (memberIdList.isEmpty()) {
+            return Collections.emptyMap();
+        }
                 
         return memberRepository.findByIdIn(memberIdList)
                 .stream()
                 .collect(Collectors.toMap(Member::getId, member -> member));
     }
-
-    /**
-     * HTML 태그 제거
-     */
-    private String stripHtmlTags(String content) {
-        if (content == null) return "";
-        return Jsoup.parse(content).text().trim();
-    }
-
-    /**
-     * HTML에서 첫 번째 이미지 URL 추출
-     */
-    private String extractFirstImageSrc(String content) {
-        if (content == null || !content.contains("<img")) {
-            return null;
-        }
-        
-        try {
-            Document doc = Jsoup.parse(content);
-            Element img = doc.selectFirst("img");
-            return img != null ? img.attr("src") : null;
-        } catch (Exception e) {
-            log.warn("이미지 URL 추출 실패: {}", e.getMessage());
-            return null;
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.springboot.gotgam.service;
+
+import com.springboot.gotgam.dto.TrendingKeywordDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 인기 검색어 집계 서비스
+ * 검색어를 시간 단위 Redis Sorted Set(검색 횟수)과 HyperLogLog(검색한 사람 수)에 기록하고,
+ * 최근 N시간 버킷을 합쳐 인기 검색어를 계산합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchTrendService {
+    public static final List<String> TYPES = List.of("diary", "tour");
+    public static final int MAX_HOURS = 24;
+
+    private static final String COUNT_KEY_PREFIX = "search:trend:";
+    private static final String SEARCHER_KEY_PREFIX = "search:trend:uv:";
+    private static final String TOP_KEY_PREFIX = "search:trend:top:";
+    private static final int MAX_KEYWORD_LENGTH = 30;
+    private static final Duration BUCKET_TTL = Duration.ofHours(MAX_HOURS + 1);
+    private static final Duration TOP_TTL = Duration.ofMinutes(1);
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 검색어 기록 (검색 응답을 지연시키지 않도록 비동기 실행)
+     *
+     * @param type diary 또는 tour
+     * @param keyword 사용자가 입력한 검색어
+     * @param searcher 검색한 사람 구분값 (회원 ID 또는 IP)
+     */
+    @Async
+    public void record(String type, String keyword, String searcher) {
+        String normalized = normalize(keyword);
+        if (normalized == null) {
+            return;
+        }
+        String bucket = ZonedDateTime.now(ZONE).format(BUCKET_FORMAT);
+        String countKey = COUNT_KEY_PREFIX + type + ":" + bucket;
+        String searcherKey = SEARCHER_KEY_PREFIX + type + ":" + bucket + ":" + normalized;
+        try {
+            redisTemplate.opsForZSet().incrementScore(countKey, normalized, 1);
+            redisTemplate.expire(countKey, BUCKET_TTL);
+            if (searcher != null) {
+                redisTemplate.opsForHyperLogLog().add(searcherKey, searcher);
+                redisTemplate.expire(searcherKey, BUCKET_TTL);
+            }
+        } catch (Exception e) {
+            log.warn("검색어 기록 실패: type={}, {}", type, e.getMessage());
+        }
+    }
+
+    /**
+     * 최근 N시간 인기 검색어 조회 (합산 결과는 1분간 Redis에 보관)
+     *
+     * @param type diary 또는 tour
+     * @param hours 집계 기간 (1 ~ 24시간)
+     * @param size 최대 결과 수
+     */
+    public List<TrendingKeywordDto> getTrending(String type, int hours, int size) {
+        if (!TYPES.contains(type)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "type은 diary 또는 tour만 가능합니다.");
+        }
+        int window = Math.max(1, Math.min(hours, MAX_HOURS));
+        if (size <= 0) {
+            return List.of();
+        }
+
+        List<String> buckets = recentBuckets(window);
+        String topKey = TOP_KEY_PREFIX + type + ":" + window;
+        try {
+            if (Boolean.FALSE.equals(redisTemplate.hasKey(topKey))) {
+                List<String> countKeys = buckets.stream().map(bucket -> COUNT_KEY_PREFIX + type + ":" + bucket).toList();
+                redisTemplate.opsForZSet().unionAndStore(countKeys.get(0), countKeys.subList(1, countKeys.size()), topKey);
+                redisTemplate.expire(topKey, TOP_TTL);
+            }
+
+            Set<ZSetOperations.TypedTuple<String>> top = redisTemplate.opsForZSet().reverseRangeWithScores(topKey, 0, size - 1);
+            List<TrendingKeywordDto> result = new ArrayList<>();
+            if (top == null) {
+                return result;
+            }
+            for (ZSetOperations.TypedTuple<String> tuple : top) {
+                String[] searcherKeys = buckets.stream()
+                        .map(bucket -> SEARCHER_KEY_PREFIX + type + ":" + bucket + ":" + tuple.getValue())
+                        .toArray(String[]::new);
+                Long searchers = redisTemplate.opsForHyperLogLog().size(searcherKeys);
+                result.add(new TrendingKeywordDto(tuple.getValue(),
+                        tuple.getScore() != null ? tuple.getScore().longValue() : 0,
+                        searchers != null ? searchers : 0));
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("인기 검색어 조회 실패: type={}, {}", type, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 검색어 정규화 (앞뒤 공백 제거, 연속 공백 축약, 소문자) - 비어 있거나 너무 길면 null
+     */
+    public static String normalize(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        String normalized = keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty() || normalized.length() > MAX_KEYWORD_LENGTH) {
+            return null;
+        }
+        return normalized;
+    }
+
+    // 현재 시각부터 거꾸로 N개의 시간 버킷
+    private static List<String> recentBuckets(int hours) {
+        ZonedDateTime now = ZonedDateTime.now(ZONE);
+        List<String> buckets = new ArrayList<>(hours);
+        for (int i = 0; i < hours; i++) {
+            buckets.add(now.minusHours(i).format(BUCKET_FORMAT));
+        }
+        return buckets;
+    }
+}
@@ -0,0 +1,266 @@
+package com.springboot.gotgam.service;
+
+import com.springboot.gotgam.dto.FacetBucketDto;
+import com.springboot.gotgam.entity.elasticsearch.Diary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.elasticsearch.index.query.QueryBuilders.termQuery;
+
+/**
+ * 다이어리 태그 색인 서비스
+ * 공개 다이어리의 태그별 사용 수와 함께 쓰인 태그 수를 Redis에 누적해,
+ * 태그 자동완성과 연관 태그를 다이어리 인덱스 전체 terms 집계 없이 조회합니다.
+ * 다이어리 작성/수정/삭제/공개 전환 시 증분 반영하고, 매일 새벽 ES 기준으로 다시 계산합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TagIndexService {
+    private static final String FREQ_KEY = "tag:freq"; // 태그 -> 사용 수
+    private static final String LEX_KEY = "tag:lex"; // 태그 사전순 목록 (접두어 조회용, 점수는 모두 0)
+    private static final String CO_KEY_PREFIX = "tag:co:"; // 태그 -> (함께 쓰인 태그 -> 횟수)
+    private static final String BUILD_KEY_PREFIX = "tag:build:"; // 재계산 중 임시 키 (교체 전까지 조회에 쓰이지 않음)
+    private static final Duration BUILD_TTL = Duration.ofHours(1); // 교체 전에 실패하면 임시 키는 자동 삭제
+    private static final int MAX_PREFIX_CANDIDATES = 200;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    /**
+     * 다이어리 변경 반영 (검색에 노출되는 공개 다이어리의 태그만 집계)
+     *
+     * @param oldTags 변경 전 태그 (새 다이어리이거나 비공개였으면 null)
+     * @param newTags 변경 후 태그 (삭제되었거나 비공개면 null)
+     */
+    @Async
+    public void update(List<String> oldTags, List<String> newTags) {
+        try {
+            apply(normalize(oldTags), -1);
+            apply(normalize(newTags), 1);
+        } catch (Exception e) {
+            log.warn("태그 색인 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 태그 자동완성 (입력한 접두어로 시작하는 태그를 사용 수 순으로)
+     *
+     * @param prefix 입력 중인 태그
+     * @param size 최대 결과 수
+     * @return 태그, 사용 수 목록
+     */
+    public List<FacetBucketDto> suggest(String prefix, int size) {
+        String key = prefix == null ? "" : prefix.trim();
+        if (key.isEmpty() || size <= 0) {
+            return List.of();
+        }
+        try {
+            Set<String> candidates = redisTemplate.opsForZSet().rangeByLex(LEX_KEY,
+                    RedisZSetCommands.Range.range().gte(key).lt(key + Character.MAX_VALUE),
+                    RedisZSetCommands.Limit.limit().count(MAX_PREFIX_CANDIDATES));
+            if (candidates == null || candidates.isEmpty()) {
+                return List.of();
+            }
+
+            // 후보별 사용 수를 한 번에 조회
+            List<String> tags = new ArrayList<>(candidates);
+            List<Object> scores = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                tags.forEach(tag -> stringConnection.zScore(FREQ_KEY, tag));
+                return null;
+            });
+
+            List<FacetBucketDto> result = new ArrayList<>();
+            for (int i = 0; i < tags.size(); i++) {
+                if (scores.get(i) instanceof Double score && score > 0) {
+                    result.add(new FacetBucketDto(tags.get(i), score.longValue()));
+                }
+            }
+            return result.stream()
+                    .sorted(Comparator.comparingLong(FacetBucketDto::getCount).reversed()
+                            .thenComparing(FacetBucketDto::getKey))
+                    .limit(size)
+                    .toList();
+        } catch (Exception e) {
+            log.warn("태그 자동완성 조회 실패: prefix={}, {}", key, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 연관 태그 (해당 태그와 함께 가장 많이 쓰인 태그)
+     *
+     * @param tag 기준 태그
+     * @param size 최대 결과 수
+     * @return 태그, 함께 쓰인 횟수 목록
+     */
+    public List<FacetBucketDto> getRelatedTags(String tag, int size) {
+        String key = tag == null ? "" : tag.trim();
+        if (key.isEmpty() || size <= 0) {
+            return List.of();
+        }
+        try {
+            Set<ZSetOperations.TypedTuple<String>> related = redisTemplate.opsForZSet()
+                    .reverseRangeByScoreWithScores(CO_KEY_PREFIX + key, 1, Double.MAX_VALUE, 0, size);
+            if (related == null) {
+                return List.of();
+            }
+            return related.stream()
+                    .map(tuple -> new FacetBucketDto(tuple.getValue(), tuple.getScore() != null ? tuple.getScore().longValue() : 0))
+                    .toList();
+        } catch (Exception e) {
+            log.warn("연관 태그 조회 실패: tag={}, {}", key, e.getMessage());
+            return List.of();
+        }
+    }
+
+    // 시작 시 색인이 없으면 전체 계산
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIfEmpty() {
+        if (Boolean.FALSE.equals(redisTemplate.hasKey(FREQ_KEY))) {
+            rebuild();
+        }
+    }
+
+    // 매일 새벽 ES 기준으로 전체 재계산 (증분 반영 중 실패로 어긋난 값 보정)
+    @Scheduled(cron = "0 45 4 * * *", zone = "Asia/Seoul")
+    public synchronized void rebuild() {
+        Map<String, Long> freq = new HashMap<>();
+        Map<String, Map<String, Long>> cooccurrence = new HashMap<>();
+
+        Query query = new NativeSearchQueryBuilder()
+                .withQuery(termQuery("is_public", true))
+                .withSourceFilter(new FetchSourceFilter(new String[]{"tags"}, null))
+                .build();
+        try (SearchHitsIterator<Diary> it = elasticsearchOperations.searchForStream(query, Diary.class)) {
+            while (it.hasNext()) {
+                List<String> tags = normalize(it.next().getContent().getTags());
+                for (String tag : tags) {
+                    freq.merge(tag, 1L, Long::sum);
+                    for (String other : tags) {
+                        if (!other.equals(tag)) {
+                            cooccurrence.computeIfAbsent(tag, k -> new HashMap<>()).merge(other, 1L, Long::sum);
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("태그 색인 계산 실패: {}", e.getMessage());
+            return;
+        }
+
+        // 임시 키에 새 색인을 기록 (기록 중에도 기존 색인으로 조회)
+        String buildPrefix = BUILD_KEY_PREFIX + UUID.randomUUID() + ":";
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            freq.forEach((tag, count) -> {
+                stringConnection.zAdd(buildPrefix + FREQ_KEY, count, tag);
+                stringConnection.zAdd(buildPrefix + LEX_KEY, 0, tag);
+            });
+            cooccurrence.forEach((tag, others) ->
+                    others.forEach((other, count) -> stringConnection.zAdd(buildPrefix + CO_KEY_PREFIX + tag, count, other)));
+            stringConnection.expire(buildPrefix + FREQ_KEY, BUILD_TTL.getSeconds());
+            stringConnection.expire(buildPrefix + LEX_KEY, BUILD_TTL.getSeconds());
+            cooccurrence.keySet().forEach(tag -> stringConnection.expire(buildPrefix + CO_KEY_PREFIX + tag, BUILD_TTL.getSeconds()));
+            return null;
+        });
+
+        // 새 색인에 없는 태그의 연관 태그 키는 삭제 (태그가 하나도 없으면 사용 수/사전 목록도 삭제)
+        Set<String> oldTags = redisTemplate.opsForZSet().range(LEX_KEY, 0, -1);
+        List<String> staleKeys = new ArrayList<>();
+        if (oldTags != null) {
+            oldTags.stream()
+                    .filter(tag -> !cooccurrence.containsKey(tag))
+                    .forEach(tag -> staleKeys.add(CO_KEY_PREFIX + tag));
+        }
+        List<String> liveKeys = new ArrayList<>();
+        if (freq.isEmpty()) {
+            staleKeys.addAll(List.of(FREQ_KEY, LEX_KEY));
+        } else {
+            liveKeys.addAll(List.of(FREQ_KEY, LEX_KEY));
+        }
+        cooccurrence.keySet().forEach(tag -> liveKeys.add(CO_KEY_PREFIX + tag));
+
+        // MULTI/EXEC로 임시 키를 한 번에 교체 (RENAME은 임시 키의 만료 시간도 옮기므로 PERSIST로 제거)
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                operations.multi();
+                if (!staleKeys.isEmpty()) {
+                    operations.delete(staleKeys);
+                }
+                for (String liveKey : liveKeys) {
+                    operations.rename(buildPrefix + liveKey, liveKey);
+                    operations.persist(liveKey);
+                }
+                return operations.exec();
+            }
+        });
+        log.info("태그 색인 계산 완료: 태그 {}개", freq.size());
+    }
+
+    // 태그 사용 수, 함께 쓰인 횟수를 delta만큼 증감 (0 이하가 되면 제거)
+    private void apply(List<String> tags, int delta) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        for (String tag : tags) {
+            Double count = zSet.incrementScore(FREQ_KEY, tag, delta);
+            if (count != null && count <= 0) {
+                zSet.remove(FREQ_KEY, tag);
+                zSet.remove(LEX_KEY, tag);
+                redisTemplate.delete(CO_KEY_PREFIX + tag);
+                continue;
+            }
+            zSet.add(LEX_KEY, tag, 0);
+
+            String coKey = CO_KEY_PREFIX + tag;
+            for (String other : tags) {
+                if (!other.equals(tag)) {
+                    Double together = zSet.incrementScore(coKey, other, delta);
+                    if (together != null && together <= 0) {
+                        zSet.remove(coKey, other);
+                    }
+                }
+            }
+        }
+    }
+
+    // 공백 제거, 빈 태그와 중복 제외
+    private static List<String> normalize(List<String> tags) {
+        if (tags == null) {
+            return List.of();
+        }
+        return tags.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .toList();
+    }
+}
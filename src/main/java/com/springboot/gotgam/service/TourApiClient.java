@@ -0,0 +1,234 @@
+package com.springboot.gotgam.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.gotgam.dto.tourspot.TourSpotDetailDto;
+import com.springboot.gotgam.exception.TourApiUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * 한국관광공사 TourAPI 클라이언트
+ * 하나의 HttpClient(keep-alive 연결 재사용)로 상세 정보 API 3개(공통, 이미지, 소개)를 동시에 호출해
+ * 첫 상세 조회 시간을 가장 느린 호출 하나 수준으로 줄입니다. 연결/응답 제한 시간을 넘기면 실패로 처리합니다.
+ * 서비스 키는 세 호출에 쓸 키를 모두 키 풀에서 받은 뒤에만 요청을 보내고, 호출 결과를 키 풀에 알립니다.
+ */
+@Slf4j
+@Component
+public class TourApiClient {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/133.0.0.0 Safari/537.36";
+    private static final String COMMON_PARAMS = "MobileOS=ETC&MobileApp=Final_test&_type=json";
+    // 키 오류(한도 초과, 미등록, 접근 거부 등)는 200 응답에 XML 오류 메시지(returnAuthMsg)로 옴
+    private static final String QUOTA_EXCEEDED = "LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS";
+    private static final String AUTH_ERROR = "returnAuthMsg";
+    private static final String SUCCESS_CODE = "0000";
+    private static final int DETAIL_CALLS = 3;
+
+    private static final Map<String, String> INFO_CENTER_SUFFIX = Map.of(
+            "39", "food",
+            "38", "shopping",
+            "32", "lodging",
+            "14", "culture");
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final TourApiKeyPool keyPool;
+    private final Duration readTimeout;
+
+    public TourApiClient(@Value("${tour.api.base-url:https://apis.data.go.kr/B551011/KorService1}") String baseUrl,
+                         TourApiKeyPool keyPool,
+                         @Value("${tour.api.connect-timeout-ms:1000}") long connectTimeoutMs,
+                         @Value("${tour.api.read-timeout-ms:3000}") long readTimeoutMs) {
+        this.baseUrl = baseUrl;
+        this.keyPool = keyPool;
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+    }
+
+    /**
+     * 관광지 상세 정보 조회 (공통/이미지/소개 API 동시 호출)
+     *
+     * @param contentId 관광지 ID
+     * @param contentTypeId 관광지 타입 ID (소개 API 항목명이 타입별로 다름)
+     * @return 상세 정보 (주소, 좌표, 가까운 관광지, 통계는 포함하지 않음)
+     * @throws TourApiUnavailableException 사용할 수 있는 키가 없는 경우 (호출하지 않고 바로 실패)
+     */
+    public TourSpotDetailDto fetchDetail(String contentId, String contentTypeId) {
+        // 키를 하나라도 못 받으면 요청을 보내지 않고 실패 (한 호출만 보내고 키를 버리지 않도록)
+        List<TourApiKeyPool.Lease> leases = acquireLeases();
+        // 실패 시 취소할 원래 요청 (thenApply로 만든 future를 취소해도 HTTP 요청은 중단되지 않음)
+        List<CompletableFuture<HttpResponse<String>>> requests = new ArrayList<>(DETAIL_CALLS);
+        CompletableFuture<Map<String, Object>> common = call("common",
+                "/detailCommon1?" + COMMON_PARAMS + "&contentId=" + contentId + "&defaultYN=Y&overviewYN=Y", leases.get(0), requests)
+                .thenApply(TourApiClient::extractItem);
+        CompletableFuture<List<Map<String, Object>>> images = call("image",
+                "/detailImage1?" + COMMON_PARAMS + "&contentId=" + contentId + "&subImageYN=Y", leases.get(1), requests)
+                .thenApply(TourApiClient::extractItems);
+        CompletableFuture<Map<String, Object>> intro = call("intro",
+                "/detailIntro1?" + COMMON_PARAMS + "&contentId=" + contentId + "&contentTypeId=" + contentTypeId, leases.get(2), requests)
+                .thenApply(TourApiClient::extractItem);
+
+        try {
+            // 각 요청에 응답 제한 시간이 걸려 있지만, 전체 대기에도 같은 상한을 둠
+            CompletableFuture.allOf(common, images, intro).get(readTimeout.toMillis() + 500, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("API 호출 중 인터럽트 발생", e);
+        } catch (ExecutionException | TimeoutException e) {
+            requests.forEach(request -> request.cancel(true));
+            log.error("API 호출 중 오류 - contentId: {}: {}", contentId, e.getCause() != null ? e.getCause().getMessage() : e.toString());
+            throw new RuntimeException("API 데이터를 가져오지 못했습니다.");
+        }
+
+        Map<String, Object> commonItem = common.join();
+        Map<String, Object> introItem = intro.join();
+        String addStr = INFO_CENTER_SUFFIX.getOrDefault(contentTypeId, "");
+        String useTime = "39".equals(contentTypeId) ? "opentimefood" : "usetime" + addStr;
+
+        return TourSpotDetailDto.builder()
+                .contentId(contentId)
+                .title((String) commonItem.getOrDefault("title", ""))
+                .images(images.join().stream()
+                        .map(item -> (String) item.get("originimgurl"))
+                        .collect(Collectors.toList()))
+                .overview((String) commonItem.getOrDefault("overview", ""))
+                .homepage((String) commonItem.getOrDefault("homepage", ""))
+                .infoCenter((String) introItem.getOrDefault("infocenter" + addStr, ""))
+                .useTime((String) introItem.getOrDefault(useTime, ""))
+                .parking((String) introItem.getOrDefault("parking" + addStr, ""))
+                .build();
+    }
+
+    // 상세 호출 수만큼 키를 받음 (중간에 실패하면 이미 받은 키는 사용량을 되돌려 반납)
+    private List<TourApiKeyPool.Lease> acquireLeases() {
+        List<TourApiKeyPool.Lease> leases = new ArrayList<>(DETAIL_CALLS);
+        try {
+            for (int i = 0; i < DETAIL_CALLS; i++) {
+                leases.add(keyPool.acquire());
+            }
+        } catch (RuntimeException e) {
+            leases.forEach(lease -> keyPool.release(lease, true));
+            throw e;
+        }
+        return leases;
+    }
+
+    // 받은 키로 비동기 GET 호출 후 JSON 파싱 (보낸 요청은 requests에 추가)
+    // 응답을 해석한 뒤 결과를 키 풀에 알림: 한도 초과 키는 오늘 제외, 그 외 오류 응답/연결 실패/시간 초과는 서킷 판단에 반영,
+    // 다른 호출 실패로 취소된 요청은 결과 없이 반납
+    private CompletableFuture<Map<String, Object>> call(String label, String pathAndQuery, TourApiKeyPool.Lease lease,
+                                                      List<CompletableFuture<HttpResponse<String>>> requests) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + pathAndQuery + "&serviceKey=" + lease.key()))
+                .timeout(readTimeout)
+                .header("Accept", "application/json")
+                .header("User-Agent", USER_AGENT)
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<String>> sent = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        requests.add(sent);
+        return sent
+                .whenComplete((response, error) -> {
+                    if (error instanceof CancellationException) {
+                        keyPool.release(lease, false);
+                    } else if (error != null) {
+                        keyPool.recordFailure(lease);
+                    }
+                })
+                .thenApply(response -> {
+                    log.debug("응답 상태 ({}): {}, {} ms", label, response.statusCode(),
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    try {
+                        Map<String, Object> result = parse(label, response);
+                        keyPool.recordSuccess(lease);
+                        return result;
+                    } catch (QuotaExceededException e) {
+                        keyPool.markExhausted(lease);
+                        throw new CompletionException(e);
+                    } catch (IllegalStateException e) {
+                        keyPool.recordFailure(lease);
+                        throw new CompletionException(e);
+                    }
+                });
+    }
+
+    // 응답 해석 (2xx 외 응답, JSON이 아닌 응답, 오류 코드가 담긴 응답은 실패)
+    private static Map<String, Object> parse(String label, HttpResponse<String> response) {
+        String body = response.body() != null ? response.body() : "";
+        if (body.contains(QUOTA_EXCEEDED)) {
+            throw new QuotaExceededException("API 호출 한도 초과: " + label);
+        }
+        if (body.contains(AUTH_ERROR)) {
+            throw new IllegalStateException("API 인증 오류: " + label);
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("API 호출 실패: " + label + " " + response.statusCode());
+        }
+        Map<String, Object> result;
+        try {
+            result = MAPPER.readValue(body, new TypeReference<Map<String, Object>>() {});
+        } catch (Exception e) {
+            throw new IllegalStateException("API 응답 파싱 실패: " + label, e);
+        }
+        Object resultCode = null;
+        if (result.get("response") instanceof Map<?, ?> wrapper && wrapper.get("header") instanceof Map<?, ?> header) {
+            resultCode = header.get("resultCode");
+        }
+        if (resultCode != null && !SUCCESS_CODE.equals(String.valueOf(resultCode))) {
+            throw new IllegalStateException("API 오류 응답: " + label + " " + resultCode);
+        }
+        return result;
+    }
+
+    // 키의 일일 한도 초과 응답
+    private static class QuotaExceededException extends IllegalStateException {
+        private QuotaExceededException(String message) {
+            super(message);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> extractItem(Map<String, Object> response) {
+        try {
+            Map<String, Object> body = (Map<String, Object>) response.get("response");
+            Map<String, Object> items = (Map<String, Object>) ((Map<String, Object>) body.get("body")).get("items");
+            List<Map<String, Object>> itemList = (List<Map<String, Object>>) items.get("item");
+            return itemList.get(0);
+        } catch (Exception e) {
+            log.error("아이템 추출 실패: {}", e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> extractItems(Map<String, Object> response) {
+        try {
+            Map<String, Object> body = (Map<String, Object>) response.get("response");
+            Map<String, Object> items = (Map<String, Object>) ((Map<String, Object>) body.get("body")).get("items");
+            List<Map<String, Object>> itemList = (List<Map<String, Object>>) items.get("item");
+            return itemList != null ? itemList : Collections.emptyList();
+        } catch (Exception e) {
+            log.error("이미지 목록 추출 실패: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+}
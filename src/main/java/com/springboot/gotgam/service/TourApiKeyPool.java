@@ -0,0 +1,317 @@
+package com.springboot.gotgam.service;
+
+import com.springboot.gotgam.exception.TourApiUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TourAPI 서비스 키 풀
+ * 키마다 일일 호출 한도와 초당 호출 수(토큰 버킷)를 Redis에서 모든 노드가 함께 계산하고,
+ * 호출마다 오늘 사용량이 가장 적은 정상 키를 고릅니다. 연속으로 실패한 키는 잠시 제외(서킷 오픈)했다가
+ * 한 번의 시험 호출이 성공하면 다시 사용하며, 쓸 수 있는 키가 없으면 기다리지 않고 바로 실패합니다.
+ * 서킷 상태는 시험 호출의 결과로만 바뀌고, 상태가 바뀌기 전에 시작한 호출의 결과는 무시합니다.
+ */
+@Slf4j
+@Component
+public class TourApiKeyPool {
+    private static final String KEY_PREFIX = "tourapi:key:";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    // 일일 한도 확인 후 토큰 버킷에서 토큰 하나 사용 (1: 성공, 0: 초당 한도 초과, -1: 일일 한도 초과)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local used = tonumber(redis.call('GET', KEYS[2]) or '0')
+            if used >= tonumber(ARGV[3]) then return -1 end
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+            if tokens < 1 then return 0 end
+            redis.call('HSET', KEYS[1], 'tokens', tokens - 1, 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], 60000)
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], 172800)
+            return 1
+            """, Long.class);
+
+    // 호출하지 않은 키의 오늘 사용량 되돌림 (0 밑으로는 내리지 않음)
+    private static final RedisScript<Long> REFUND_SCRIPT = new DefaultRedisScript<>("""
+            if tonumber(redis.call('GET', KEYS[1]) or '0') > 0 then return redis.call('DECR', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final List<KeyState> keys;
+    private final int dailyQuota;
+    private final int ratePerSecond;
+    private final int failureThreshold;
+    private final long openMs;
+    private final AtomicInteger fallbackCursor = new AtomicInteger();
+
+    public TourApiKeyPool(RedisTemplate<String, String> redisTemplate,
+                          @Value("${tour.api.service-key1}") String serviceKey1,
+                          @Value("${tour.api.service-key2}") String serviceKey2,
+                          @Value("${tour.api.service-key3}") String serviceKey3,
+                          @Value("${tour.api.key.daily-quota:1000}") int dailyQuota,
+                          @Value("${tour.api.key.rate-per-second:10}") int ratePerSecond,
+                          @Value("${tour.api.key.failure-threshold:5}") int failureThreshold,
+                          @Value("${tour.api.key.open-ms:30000}") long openMs) {
+        this.redisTemplate = redisTemplate;
+        this.dailyQuota = dailyQuota;
+        this.ratePerSecond = ratePerSecond;
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+        this.keys = new ArrayList<>();
+        new LinkedHashSet<>(Arrays.asList(serviceKey1, serviceKey2, serviceKey3)).stream()
+                .filter(key -> key != null && !key.isBlank())
+                .forEach(key -> keys.add(new KeyState(key)));
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("TourAPI 서비스 키가 설정되지 않았습니다.");
+        }
+    }
+
+    /**
+     * 호출에 사용할 키 선택 (호출이 끝나면 결과를 recordSuccess/recordFailure/markExhausted로, 호출하지 않거나 취소하면 release로 알려야 함)
+     *
+     * @return 사용할 키와 서킷 상태 정보
+     * @throws TourApiUnavailableException 모든 키가 한도 초과 또는 서킷 오픈 상태인 경우
+     */
+    public Lease acquire() {
+        long now = System.currentTimeMillis();
+        List<KeyState> candidates = keys.stream().filter(state -> !state.isOpen(now)).toList();
+        if (candidates.isEmpty()) {
+            throw new TourApiUnavailableException("사용 가능한 TourAPI 키가 없습니다. (서킷 오픈)");
+        }
+
+        String day = LocalDate.now(ZONE).format(DAY_FORMAT);
+        List<String> usedKeys = candidates.stream().map(state -> state.usedKey(day)).toList();
+        List<String> used;
+        try {
+            used = redisTemplate.opsForValue().multiGet(usedKeys);
+        } catch (Exception e) {
+            // Redis 장애 시 한도 계산 없이 순서대로 사용 (TourAPI 호출 자체는 막지 않음)
+            log.warn("TourAPI 키 사용량 조회 실패, 한도 확인 없이 사용: {}", e.getMessage());
+            return fallback(candidates, now);
+        }
+
+        // 오늘 사용량이 적은 키부터 시도
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingLong(i -> used != null && used.get(i) != null ? Long.parseLong(used.get(i)) : 0L));
+
+        boolean rateLimited = false;
+        for (int i : order) {
+            KeyState state = candidates.get(i);
+            Lease lease = state.tryEnter(now);
+            if (lease == null) {
+                continue;
+            }
+            Long result;
+            try {
+                result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(state.bucketKey(), usedKeys.get(i)),
+                        String.valueOf(ratePerSecond), String.valueOf(ratePerSecond), String.valueOf(dailyQuota));
+            } catch (Exception e) {
+                log.warn("TourAPI 키 토큰 확인 실패, 한도 확인 없이 사용: {}", e.getMessage());
+                return lease;
+            }
+            if (result != null && result == 1) {
+                return lease;
+            }
+            state.leave(lease);
+            rateLimited |= result != null && result == 0;
+        }
+        throw new TourApiUnavailableException(rateLimited
+                ? "TourAPI 호출이 많아 잠시 후 다시 시도해야 합니다. (초당 한도 초과)"
+                : "TourAPI 일일 호출 한도를 모두 사용했습니다.");
+    }
+
+    /**
+     * 호출 성공 (시험 호출이면 서킷 닫음)
+     */
+    public void recordSuccess(Lease lease) {
+        find(lease).ifPresent(state -> state.success(lease));
+    }
+
+    /**
+     * 호출 실패 (연속 실패가 기준을 넘거나 시험 호출이 실패하면 서킷 오픈)
+     */
+    public void recordFailure(Lease lease) {
+        find(lease).ifPresent(state -> {
+            if (state.failure(lease, System.currentTimeMillis(), failureThreshold, openMs)) {
+                log.warn("TourAPI 키 {} 연속 실패로 {} ms 동안 제외", state.id, openMs);
+            }
+        });
+    }
+
+    /**
+     * 결과 없이 키 반납 (시험 호출 자리만 돌려주고 서킷 판단에는 반영하지 않음)
+     *
+     * @param refund 요청을 보내지 않은 경우 true (오늘 사용량도 되돌림)
+     */
+    public void release(Lease lease, boolean refund) {
+        find(lease).ifPresent(state -> {
+            state.leave(lease);
+            if (!refund) {
+                return;
+            }
+            try {
+                redisTemplate.execute(REFUND_SCRIPT, List.of(state.usedKey(LocalDate.now(ZONE).format(DAY_FORMAT))));
+            } catch (Exception e) {
+                log.warn("TourAPI 키 사용량 되돌리기 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * TourAPI가 한도 초과로 응답한 키를 오늘 남은 시간 동안 제외 (다른 노드도 함께 제외)
+     */
+    public void markExhausted(Lease lease) {
+        find(lease).ifPresent(state -> {
+            state.success(lease); // 키 자체는 정상
+            try {
+                String usedKey = state.usedKey(LocalDate.now(ZONE).format(DAY_FORMAT));
+                redisTemplate.opsForValue().set(usedKey, String.valueOf(dailyQuota));
+                redisTemplate.expire(usedKey, Duration.ofDays(2));
+            } catch (Exception e) {
+                log.warn("TourAPI 키 한도 초과 기록 실패: {}", e.getMessage());
+            }
+            log.warn("TourAPI 키 {} 일일 한도 초과 응답", state.id);
+        });
+    }
+
+    private Optional<KeyState> find(Lease lease) {
+        return keys.stream().filter(state -> state.key.equals(lease.key())).findFirst();
+    }
+
+    private Lease fallback(List<KeyState> candidates, long now) {
+        for (int i = 0; i < candidates.size(); i++) {
+            KeyState state = candidates.get(Math.floorMod(fallbackCursor.getAndIncrement(), candidates.size()));
+            Lease lease = state.tryEnter(now);
+            if (lease != null) {
+                return lease;
+            }
+        }
+        throw new TourApiUnavailableException("사용 가능한 TourAPI 키가 없습니다. (서킷 오픈)");
+    }
+
+    /**
+     * 키 사용 권한 (호출 결과를 알릴 때 그대로 넘김)
+     *
+     * @param key 서비스 키
+     * @param generation 받을 당시의 서킷 상태 번호 (상태가 바뀐 뒤 도착한 결과는 무시)
+     * @param trial 서킷 오픈 후 시험 호출 여부
+     */
+    public record Lease(String key, long generation, boolean trial) {
+    }
+
+    // 키별 상태 (서킷은 노드별로 관리)
+    private static class KeyState {
+        private final String key;
+        private final String id; // Redis 키, 로그에 서비스 키 원문 대신 사용
+        private int consecutiveFailures;
+        private boolean trialInFlight;
+        private long openUntil; // 0이면 닫힘
+        private long generation; // 서킷이 열리거나 닫힐 때마다 증가
+
+        private KeyState(String key) {
+            this.key = key;
+            this.id = hash(key);
+        }
+
+        private String bucketKey() {
+            return KEY_PREFIX + id + ":bucket";
+        }
+
+        private String usedKey(String day) {
+            return KEY_PREFIX + id + ":used:" + day;
+        }
+
+        // 서킷 오픈 중 (제외 시간이 지났으면 시험 호출 가능)
+        private synchronized boolean isOpen(long now) {
+            return openUntil != 0 && (now < openUntil || trialInFlight);
+        }
+
+        // 호출 시작 (닫힘: 일반 호출, 제외 시간이 지난 열림: 시험 호출 하나만 허용, 그 외 null)
+        private synchronized Lease tryEnter(long now) {
+            if (openUntil == 0) {
+                return new Lease(key, generation, false);
+            }
+            if (now >= openUntil && !trialInFlight) {
+                trialInFlight = true;
+                return new Lease(key, generation, true);
+            }
+            return null;
+        }
+
+        // 호출하지 못한 경우 시험 호출 자리 반납
+        private synchronized void leave(Lease lease) {
+            if (lease.trial() && lease.generation() == generation) {
+                trialInFlight = false;
+            }
+        }
+
+        private synchronized void success(Lease lease) {
+            if (lease.generation() != generation) {
+                return;
+            }
+            consecutiveFailures = 0;
+            if (lease.trial()) {
+                openUntil = 0;
+                trialInFlight = false;
+                generation++;
+            }
+        }
+
+        // 실패 기록 (서킷을 새로 열었으면 true)
+        private synchronized boolean failure(Lease lease, long now, int threshold, long openMs) {
+            if (lease.generation() != generation) {
+                return false;
+            }
+            if (lease.trial()) {
+                // 시험 호출 실패: 다시 제외
+                open(now, openMs);
+                return true;
+            }
+            if (openUntil == 0 && ++consecutiveFailures >= threshold) {
+                open(now, openMs);
+                return true;
+            }
+            return false;
+        }
+
+        private void open(long now, long openMs) {
+            openUntil = now + openMs;
+            trialInFlight = false;
+            consecutiveFailures = 0;
+            generation++;
+        }
+
+        private static String hash(String key) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(digest, 0, 6);
+            } catch (Exception e) {
+                return Integer.toHexString(key.hashCode());
+            }
+        }
+    }
+}
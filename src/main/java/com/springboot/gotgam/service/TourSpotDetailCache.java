@@ -0,0 +1,244 @@
+package com.springboot.gotgam.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.gotgam.dto.tourspot.TourSpotDetailDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * 관광지 상세 정보 2단계 캐시 (stale-while-revalidate)
+ * L1(Caffeine) -> L2(Redis, 긴 TTL) 순으로 조회하고, 갱신 시각(soft TTL)이 지난 항목은 그대로 응답하면서
+ * 백그라운드에서 다시 계산합니다. 상세 정보 저장, 리뷰/북마크 변경 시에는 모든 노드에서 즉시 무효화합니다.
+ * 무효화할 때마다 관광지별 세대 번호를 올리고, 읽은 뒤 다시 계산한 값은 그사이 세대가 바뀌지 않았을 때만 저장해
+ * 계산 중에 무효화된 오래된 값이 다시 캐시되지 않게 합니다.
+ */
+@Slf4j
+@Service
+public class TourSpotDetailCache implements MessageListener {
+    public static final String INVALIDATE_CHANNEL = "tourspot:detail-invalidate";
+    private static final String CACHE_KEY_PREFIX = "tourspot:detail:";
+    private static final String GENERATION_KEY_PREFIX = "tourspot:detail-gen:"; // 관광지별 무효화 횟수
+
+    // 세대 번호가 그대로일 때만 저장 (1: 저장, 0: 그사이 무효화됨)
+    private static final RedisScript<Long> PUT_IF_CURRENT_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[1]) or '0') ~= ARGV[1] then return 0 end
+            redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CachedDetail> localCache;
+    private final Duration softTtl;
+    private final Duration hardTtl;
+    private final ExecutorService refreshExecutor = Executors.newFixedThreadPool(2);
+    // 백그라운드 갱신 중인 관광지 ID (같은 항목을 중복 갱신하지 않음)
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public TourSpotDetailCache(RedisTemplate<String, String> redisTemplate,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${tourspot.detail-cache.local-max-size:1000}") long localMaxSize,
+                               @Value("${tourspot.detail-cache.local-ttl-seconds:30}") long localTtlSeconds,
+                               @Value("${tourspot.detail-cache.soft-ttl-seconds:300}") long softTtlSeconds,
+                               @Value("${tourspot.detail-cache.hard-ttl-seconds:86400}") long hardTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.softTtl = Duration.ofSeconds(softTtlSeconds);
+        this.hardTtl = Duration.ofSeconds(hardTtlSeconds);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "tourspot.detail");
+    }
+
+    /**
+     * 상세 정보 조회 (갱신 시각이 지났으면 기존 값을 응답하고 백그라운드에서 reloader로 갱신)
+     *
+     * @param contentId 관광지 ID
+     * @param reloader 저장된 상세 정보로 응답을 다시 만드는 함수 (상세 정보가 없으면 null)
+     * @return 캐시된 상세 정보 (없으면 null)
+     */
+    public TourSpotDetailDto get(String contentId, Function<String, TourSpotDetailDto> reloader) {
+        CachedDetail cached = lookup(contentId);
+        if (cached == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() > cached.getSoftExpireAt()) {
+            refreshInBackground(contentId, reloader);
+        }
+        return cached.getDetail();
+    }
+
+    /**
+     * 상세 정보 조회 (갱신 없이 캐시에 있는 값만)
+     */
+    public TourSpotDetailDto peek(String contentId) {
+        CachedDetail cached = lookup(contentId);
+        return cached != null ? cached.getDetail() : null;
+    }
+
+    /**
+     * 상세 정보 저장 (L1, L2)
+     */
+    public void put(String contentId, TourSpotDetailDto detail) {
+        CachedDetail cached = new CachedDetail(detail, System.currentTimeMillis() + softTtl.toMillis());
+        localCache.put(contentId, cached);
+        try {
+            redisTemplate.opsForValue().set(CACHE_KEY_PREFIX + contentId, objectMapper.writeValueAsString(cached), hardTtl);
+        } catch (Exception e) {
+            log.warn("관광지 상세 캐시 저장 실패: {}, {}", contentId, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 세대 번호 (값을 다시 계산하기 전에 읽어 putIfCurrent에 넘김, 조회 실패 시 null)
+     */
+    public String generation(String contentId) {
+        try {
+            String generation = redisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + contentId);
+            return generation != null ? generation : "0";
+        } catch (Exception e) {
+            log.warn("관광지 상세 캐시 세대 조회 실패: {}, {}", contentId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * generation을 읽은 뒤 무효화되지 않았을 때만 상세 정보 저장 (L1, L2)
+     *
+     * @param generation 값을 계산하기 전에 읽은 세대 번호 (null이면 저장하지 않음)
+     */
+    public void putIfCurrent(String contentId, String generation, TourSpotDetailDto detail) {
+        if (generation == null) {
+            return;
+        }
+        CachedDetail cached = new CachedDetail(detail, System.currentTimeMillis() + softTtl.toMillis());
+        try {
+            Long stored = redisTemplate.execute(PUT_IF_CURRENT_SCRIPT,
+                    List.of(GENERATION_KEY_PREFIX + contentId, CACHE_KEY_PREFIX + contentId),
+                    generation, objectMapper.writeValueAsString(cached), String.valueOf(hardTtl.toMillis()));
+            if (stored == null || stored != 1) {
+                log.debug("관광지 상세 캐시 갱신 중 무효화되어 저장하지 않음: {}", contentId);
+                return;
+            }
+            localCache.put(contentId, cached);
+            // L1 저장 직전에 도착한 무효화 알림을 놓치지 않도록 한 번 더 확인
+            if (!generation.equals(generation(contentId))) {
+                localCache.invalidate(contentId);
+            }
+        } catch (Exception e) {
+            log.warn("관광지 상세 캐시 저장 실패: {}, {}", contentId, e.getMessage());
+        }
+    }
+
+    /**
+     * 상세 정보 무효화 (세대 번호 증가, 다른 노드의 L1도 pub/sub으로 제거)
+     */
+    public void invalidate(String contentId) {
+        localCache.invalidate(contentId);
+        try {
+            String generationKey = GENERATION_KEY_PREFIX + contentId;
+            redisTemplate.opsForValue().increment(generationKey);
+            redisTemplate.expire(generationKey, hardTtl);
+            redisTemplate.delete(CACHE_KEY_PREFIX + contentId);
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, contentId);
+        } catch (Exception e) {
+            log.warn("관광지 상세 캐시 무효화 실패: {}, {}", contentId, e.getMessage());
+        }
+    }
+
+    // 다른 노드의 무효화 알림 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        localCache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // L1 -> L2 순으로 조회 (L2 적중 시 L1에 저장)
+    private CachedDetail lookup(String contentId) {
+        CachedDetail local = localCache.getIfPresent(contentId);
+        if (local != null) {
+            return local;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(CACHE_KEY_PREFIX + contentId);
+            if (json == null) {
+                return null;
+            }
+            CachedDetail remote = objectMapper.readValue(json, CachedDetail.class);
+            localCache.put(contentId, remote);
+            return remote;
+        } catch (Exception e) {
+            log.warn("관광지 상세 캐시 조회 실패: {}, {}", contentId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void refreshInBackground(String contentId, Function<String, TourSpotDetailDto> reloader) {
+        if (!refreshing.add(contentId)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    String generation = generation(contentId);
+                    TourSpotDetailDto detail = reloader.apply(contentId);
+                    if (detail != null) {
+                        putIfCurrent(contentId, generation, detail);
+                    } else {
+                        invalidate(contentId);
+                    }
+                } catch (Exception e) {
+                    log.warn("관광지 상세 캐시 갱신 실패: {}, {}", contentId, e.getMessage());
+                } finally {
+                    refreshing.remove(contentId);
+                }
+            });
+        } catch (Exception e) {
+            refreshing.remove(contentId);
+        }
+    }
+
+    /**
+     * 캐시 저장 형식 (상세 정보 + 갱신 시각)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CachedDetail {
+        private TourSpotDetailDto detail;
+        private long softExpireAt;
+    }
+}
@@ -0,0 +1,130 @@
+package com.springboot.gotgam.service;
+
+import com.springboot.gotgam.dto.tourspot.TourSpotDetailDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 관광지 상세 정보 최초 조회(TourAPI 호출) 단일 실행
+ * 같은 JVM에서는 관광지별 CompletableFuture 하나로 요청을 병합하고,
+ * 다른 노드가 조회 중이면 Redis pub/sub 완료 알림을 받는 즉시 저장된 결과를 읽습니다. (재시도 대기 없음)
+ */
+@Slf4j
+@Component
+public class TourSpotDetailSingleFlight implements MessageListener {
+    public static final String CHANNEL = "tourspot:detail-ready";
+    private static final String LOCK_KEY_PREFIX = "lock:tourspot:";
+    private static final long LOCK_SECONDS = 10;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long waitMs;
+
+    // 이 노드에서 조회 중인 관광지 ID -> 결과
+    private final Map<String, CompletableFuture<TourSpotDetailDto>> inFlight = new ConcurrentHashMap<>();
+    // 다른 노드의 조회 완료를 기다리는 관광지 ID -> 알림
+    private final Map<String, CompletableFuture<Void>> remoteSignals = new ConcurrentHashMap<>();
+
+    public TourSpotDetailSingleFlight(RedisTemplate<String, String> redisTemplate,
+                                      @Value("${tourspot.detail.wait-ms:5000}") long waitMs) {
+        this.redisTemplate = redisTemplate;
+        this.waitMs = waitMs;
+    }
+
+    /**
+     * 관광지 상세 정보를 한 번만 조회
+     *
+     * @param contentId 관광지 ID
+     * @param loader TourAPI 호출 및 저장 (노드 간 락을 잡은 요청만 실행)
+     * @param reader 저장된 상세 정보 조회 (없으면 null)
+     */
+    public TourSpotDetailDto load(String contentId, Supplier<TourSpotDetailDto> loader, Supplier<TourSpotDetailDto> reader) {
+        CompletableFuture<TourSpotDetailDto> mine = new CompletableFuture<>();
+        CompletableFuture<TourSpotDetailDto> existing = inFlight.putIfAbsent(contentId, mine);
+        if (existing != null) {
+            return await(contentId, existing);
+        }
+
+        try {
+            TourSpotDetailDto result = loadAcrossNodes(contentId, loader, reader);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(contentId, mine);
+        }
+    }
+
+    // 다른 노드의 조회 완료 알림 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String contentId = new String(message.getBody(), StandardCharsets.UTF_8);
+        CompletableFuture<Void> signal = remoteSignals.get(contentId);
+        if (signal != null) {
+            signal.complete(null);
+        }
+    }
+
+    private TourSpotDetailDto loadAcrossNodes(String contentId, Supplier<TourSpotDetailDto> loader,
+                                              Supplier<TourSpotDetailDto> reader) {
+        String lockKey = LOCK_KEY_PREFIX + contentId;
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, "locked", LOCK_SECONDS, TimeUnit.SECONDS))) {
+            try {
+                return loader.get();
+            } finally {
+                redisTemplate.delete(lockKey);
+                // 성공/실패 모두 알림 (실패 시 대기 중인 노드가 바로 직접 조회)
+                redisTemplate.convertAndSend(CHANNEL, contentId);
+            }
+        }
+
+        // 다른 노드가 조회 중: 알림 대기 등록 후, 등록 전에 끝났을 수 있으므로 한 번 확인
+        CompletableFuture<Void> signal = new CompletableFuture<>();
+        remoteSignals.put(contentId, signal);
+        try {
+            TourSpotDetailDto saved = reader.get();
+            if (saved != null) {
+                return saved;
+            }
+            signal.get(waitMs, TimeUnit.MILLISECONDS);
+            saved = reader.get();
+            if (saved != null) {
+                return saved;
+            }
+        } catch (TimeoutException e) {
+            log.warn("관광지 상세 조회 완료 알림 대기 시간 초과: {}", contentId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("대기 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } finally {
+            remoteSignals.remove(contentId, signal);
+        }
+
+        // 다른 노드가 실패했거나 응답이 없음: 직접 조회
+        return loader.get();
+    }
+
+    private TourSpotDetailDto await(String contentId, CompletableFuture<TourSpotDetailDto> future) {
+        try {
+            return future.get(waitMs * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("대기 중 인터럽트 발생", e);
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("관광지 상세 조회 대기 실패: {}", contentId);
+            throw new RuntimeException("상세 정보를 가져오지 못했습니다.");
+        }
+    }
+}
@@ -1,21 +1,21 @@
 package com.springboot.gotgam.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.springboot.gotgam.dto.tourspot.TourSpotDetailDto;
 import com.springboot.gotgam.dto.tourspot.TourSpotListDto;
 import com.springboot.gotgam.dto.tourspot.TourSpotStats;
 import com.springboot.gotgam.entity.elasticsearch.TourSpots;
+import com.springboot.gotgam.exception.TourApiUnavailableException;
 import com.springboot.gotgam.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.search.join.ScoreMode;
 import org.elasticsearch.common.unit.DistanceUnit;
 import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.search.sort.GeoDistanceSortBuilder;
 import org.elasticsearch.search.sort.SortBuilders;
 import org.elasticsearch.search.sort.SortOrder;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
@@ -24,6 +24,7 @@ import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.document.Document;
 import org.springframework.data.elasticsearch.core.geo.GeoPoint;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
 import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.core.query.UpdateQuery;
@@ -31,13 +32,11 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -47,228 +46,153 @@ import java.util.stream.Collectors;
 public class TourSpotService {
     private final TourSpotsRepository tourSpotsRepository;
     private final ElasticsearchOperations elasticsearchOperations;
-    private final RedisTemplate<String, String> redisTemplate;
-    private final RedisTemplate<String, TourSpotDetailDto> tourSpotDetailRedisTemplate;
     private final ReviewRepository reviewRepository;
     private final BookmarkRepository bookmarkRepository;
+    private final TourApiClient tourApiClient;
+    private final TourSpotDetailSingleFlight tourSpotDetailSingleFlight;
+    private final TourSpotDetailCache tourSpotDetailCache;
+    private final RedisTemplate<String, String> redisTemplate;
 
-    @Value("${tour.api.service-key1}")
-    private String serviceKey1;
-
-    @Value("${tour.api.service-key2}")
-    private String serviceKey2;
-
-    @Value("${tour.api.service-key3}")
-    private String serviceKey3;
-
-    private static final String BASE_URL = "https://apis.data.go.kr/B551011/KorService1";
     private static final String INDEX_NAME = "tour_spots";
+    // 일별 상세 조회 수 (관광지 ID -> 조회 수), 상세 정보 미리 채우기 우선순위에 사용
+    public static final String VIEW_KEY_PREFIX = "tourspot:views:";
+    public static final DateTimeFormatter VIEW_DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
 
-    private static final Map<String, String> INFO_CENTER_SUFFIX;
-
-    static {
-        INFO_CENTER_SUFFIX = Map.of(
-                "39", "food",
-                "38", "shopping",
-                "32", "lodging",
-                "14", "culture");
-    }
-
-    // 초기 호출
     public TourSpotDetailDto getTourSpotDetail(String tourSpotId) {
-        return getTourSpotDetail(tourSpotId, 0);
-    }
-
-    public TourSpotDetailDto getTourSpotDetail(String tourSpotId, int retryCount) {
         long startTime = System.currentTimeMillis();
-        String cacheKey = "tourspot:detail:" + tourSpotId;
+        recordView(tourSpotId);
 
-        // 1. 캐시 확인
-        TourSpotDetailDto cached = tourSpotDetailRedisTemplate.opsForValue().get(cacheKey);
+        // 1. 캐시 확인 (갱신 시각이 지난 항목은 그대로 응답하고 백그라운드에서 갱신)
+        TourSpotDetailDto cached = tourSpotDetailCache.get(tourSpotId, this::loadStoredDetail);
         if (cached != null) {
-            // 실시간 통계 데이터 추가
-            TourSpotStats stats = fetchStats(tourSpotId);
-            cached.setBookmarkCount(stats.getBookmarkCount());
-            long endTime = System.currentTimeMillis();
-            log.info("캐시 히트 후 통계 반영: {} ms", endTime - startTime);
+            log.info("캐시 히트: {} ms", System.currentTimeMillis() - startTime);
             return cached;
         }
 
-        // 2. Elasticsearch 확인
-        Optional<TourSpots> tourSpotOpt = tourSpotsRepository.findByContentId(tourSpotId);
-        if (tourSpotOpt.isEmpty()) {
-            throw new RuntimeException("해당 관광지 데이터가 없습니다: " + tourSpotId);
-        }
-
-        TourSpots tourSpot = tourSpotOpt.get();
-        TourSpots.Detail detail = tourSpot.getDetail();
-        if (detail != null) {
-            TourSpotDetailDto result = convertToDto(tourSpot, detail);
-            if (!tourSpot.getFirstImage().isEmpty()) result.getImages().add(0, tourSpot.getFirstImage());
-            // 실시간 통계 데이터 추가
-            TourSpotStats stats = fetchStats(tourSpotId);
-            result.setBookmarkCount(stats.getBookmarkCount());
-            long endTime = System.currentTimeMillis();
-            log.info("이미 존재함, 통계 반영: {} ms", endTime - startTime);
+        // 2. Elasticsearch 확인 (조회 중 리뷰/북마크 변경으로 무효화되면 캐시하지 않음)
+        String generation = tourSpotDetailCache.generation(tourSpotId);
+        TourSpots tourSpot = tourSpotsRepository.findByContentId(tourSpotId)
+                .orElseThrow(() -> new RuntimeException("해당 관광지 데이터가 없습니다: " + tourSpotId));
+        if (hasDetail(tourSpot)) {
+            TourSpotDetailDto result = withStats(toDetailDto(tourSpot));
+            tourSpotDetailCache.putIfCurrent(tourSpotId, generation, result);
+            log.info("이미 존재함, 통계 반영: {} ms", System.currentTimeMillis() - startTime);
             return result;
         }
 
-        if (retryCount > 10) {
-            throw new RuntimeException("재시도 횟수 초과");
-        }
-
-        // 3. API 호출 필요: 락 적용
-        String lockKey = "lock:tourspot:" + tourSpotId;
-        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, "locked", 10, TimeUnit.SECONDS))) {
-            try {
-                // 락 내에서 캐시 재확인
-                TourSpotDetailDto recheckCached = tourSpotDetailRedisTemplate.opsForValue().get(cacheKey);
-                if (recheckCached != null) {
-                    TourSpotStats stats = fetchStats(tourSpotId);
-                    recheckCached.setBookmarkCount(stats.getBookmarkCount());
-                    long endTime = System.currentTimeMillis();
-                    log.info("락 내에서 캐시 재확인 후 통계 반영: {} ms", endTime - startTime);
-                    return recheckCached;
-                }
-
-                // API 호출 및 저장
-                TourSpotDetailDto detailDto = fetchDetailFromApi(tourSpotId, tourSpot.getContentTypeId());
-                saveDetailToElasticsearch(tourSpot.getId(), detailDto);
-                if (!tourSpot.getFirstImage().isEmpty()) detailDto.getImages().add(0, tourSpot.getFirstImage());
-                detailDto.setAddr1(tourSpot.getAddr1());
-                detailDto.setMapX(tourSpot.getMapX());
-                detailDto.setMapY(tourSpot.getMapY());
-                detailDto.setNearSpots(findNearestTourSpots(tourSpot.getLocation(), tourSpot.getContentId()));
-                // 통계 데이터 추가
-                TourSpotStats stats = fetchStats(tourSpotId);
-                detailDto.setBookmarkCount(stats.getBookmarkCount());
-                // Redis 캐시 저장 (통계 데이터 포함하지 않음)
-                tourSpotDetailRedisTemplate.opsForValue().set(cacheKey, detailDto, 5, TimeUnit.SECONDS);
-                long endTime = System.currentTimeMillis();
-                log.info("API 호출 후 통계 반영 및 반환: {} ms", endTime - startTime);
-                return detailDto;
-            } catch (Exception e) {
-                throw new RuntimeException("상세 정보를 가져오지 못했습니다.");
-            } finally {
-                redisTemplate.delete(lockKey);
-            }
-        } else {
-            try {
-                Thread.sleep(150);
-                return getTourSpotDetail(tourSpotId, retryCount + 1);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException("대기 중 인터럽트 발생", e);
-            }
-        }
+        // 3. API 호출 필요: 노드 내 요청은 하나로 병합, 다른 노드가 조회 중이면 완료 알림을 받아 저장된 결과 사용
+        TourSpotDetailDto detailDto = tourSpotDetailSingleFlight.load(tourSpotId,
+                () -> fetchAndSaveDetail(tourSpot),
+                () -> readSavedDetail(tourSpotId));
+        log.info("API 호출 후 통계 반영 및 반환: {} ms", System.currentTimeMillis() - startTime);
+        return detailDto;
     }
 
-    // 여행지 상세정보 존재하지 않을 시 Api 요청
-    private TourSpotDetailDto fetchDetailFromApi(String contentId, String contentTypeId) {
-        try {
-            String commonUrl = BASE_URL + "/detailCommon1?MobileOS=ETC&MobileApp=Final_test&_type=json" +
-                    "&contentId=" + contentId + "&defaultYN=Y&overviewYN=Y&serviceKey=" + serviceKey1;
-            Map<String, Object> commonItem = fetchApiData(commonUrl, "common", true);
-
-            String imageUrl = BASE_URL + "/detailImage1?MobileOS=ETC&MobileApp=Final_test&_type=json" +
-                    "&contentId=" + contentId + "&subImageYN=Y&serviceKey=" + serviceKey2;
-            List<Map<String, Object>> imageItems = fetchApiData(imageUrl, "image", false);
+    /**
+     * 상세 정보를 이미 저장한 관광지인지 여부 (설명 등 내용이 비어 있어도 저장했으면 true)
+     */
+    public static boolean hasDetail(TourSpots tourSpot) {
+        return tourSpot.getDetail() != null;
+    }
 
-            String introUrl = BASE_URL + "/detailIntro1?MobileOS=ETC&MobileApp=Final_test&_type=json" +
-                    "&contentId=" + contentId + "&contentTypeId=" + contentTypeId + "&serviceKey=" + serviceKey3;
-            Map<String, Object> introItem = fetchApiData(introUrl, "intro", true);
+    /**
+     * hasDetail과 같은 기준의 ES 조건 (detail은 nested 필드라 nested 문서가 하나라도 있으면 저장한 것)
+     */
+    public static QueryBuilder hasDetailQuery() {
+        return QueryBuilders.nestedQuery("detail", QueryBuilders.matchAllQuery(), ScoreMode.None);
+    }
 
-            String addStr = INFO_CENTER_SUFFIX.getOrDefault(contentTypeId, "");
-            String useTime = contentTypeId.equals("39") ? "opentimefood" : "usetime" + addStr;
+    /**
+     * 상세 정보가 없는 관광지를 미리 채움 (사용자 조회와 같은 단일 실행 경로를 사용해 중복 호출 없음)
+     *
+     * @param tourSpot 상세 정보가 없는 관광지 문서
+     * @throws TourApiUnavailableException 사용할 수 있는 TourAPI 키가 없는 경우
+     */
+    public void enrichDetail(TourSpots tourSpot) {
+        String tourSpotId = tourSpot.getContentId();
+        tourSpotDetailSingleFlight.load(tourSpotId,
+                () -> fetchAndSaveDetail(tourSpot),
+                () -> readSavedDetail(tourSpotId));
+    }
 
-            return TourSpotDetailDto.builder()
-                    .contentId(contentId)
-                    .title((String) commonItem.getOrDefault("title", ""))
-                    .images(imageItems.stream()
-                            .map(item -> (String) item.get("originimgurl"))
-                            .collect(Collectors.toList()))
-                    .overview((String) commonItem.getOrDefault("overview", ""))
-                    .homepage((String) commonItem.getOrDefault("homepage", ""))
-                    .infoCenter((String) introItem.getOrDefault("infocenter" + addStr, ""))
-                    .useTime((String) introItem.getOrDefault(useTime, ""))
-                    .parking((String) introItem.getOrDefault("parking" + addStr, ""))
-                    .build();
+    // 상세 조회 수 기록 (실패해도 조회에는 영향 없음)
+    private void recordView(String tourSpotId) {
+        try {
+            String key = VIEW_KEY_PREFIX + LocalDate.now(ZONE).format(VIEW_DAY_FORMAT);
+            redisTemplate.opsForZSet().incrementScore(key, tourSpotId, 1);
+            redisTemplate.expire(key, Duration.ofDays(2));
         } catch (Exception e) {
-            log.error("API 호출 중 오류 - contentId: {}: {}", contentId, e.getMessage());
-            throw new RuntimeException("API 데이터를 가져오지 못했습니다.");
+            log.warn("관광지 조회 수 기록 실패: {}, {}", tourSpotId, e.getMessage());
         }
     }
 
-    // 공통 API 호출 메서드
-    @SuppressWarnings("unchecked")
-    private <T> T fetchApiData(String url, String logLabel, boolean isSingleItem) {
+    // API 호출 후 ES, 상세 캐시에 저장
+    private TourSpotDetailDto fetchAndSaveDetail(TourSpots tourSpot) {
         try {
-            log.info("호출 URL ({}): {}", logLabel, url);
-            URL urlObj = new URL(url);
-            HttpURLConnection conn = (HttpURLConnection) urlObj.openConnection();
-            conn.setRequestMethod("GET");
-            conn.setRequestProperty("Accept", "application/json");
-            conn.setRequestProperty("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/133.0.0.0 Safari/537.36");
-
-            StringBuilder responseBody = new StringBuilder();
-            try (BufferedReader br = new BufferedReader(new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
-                String line;
-                while ((line = br.readLine()) != null) {
-                    responseBody.append(line);
-                }
-            }
-            log.info("응답 상태 ({}): {}", logLabel, conn.getResponseCode());
-
-            ObjectMapper mapper = new ObjectMapper();
-            Map<String, Object> response = mapper.readValue(responseBody.toString(), new TypeReference<Map<String, Object>>() {});
-            return isSingleItem ? (T) extractItem(response) : (T) extractItems(response);
+            TourSpotDetailDto detailDto = tourApiClient.fetchDetail(tourSpot.getContentId(), tourSpot.getContentTypeId());
+            saveDetailToElasticsearch(tourSpot, detailDto);
+            if (!tourSpot.getFirstImage().isEmpty()) detailDto.getImages().add(0, tourSpot.getFirstImage());
+            detailDto.setAddr1(tourSpot.getAddr1());
+            detailDto.setMapX(tourSpot.getMapX());
+            detailDto.setMapY(tourSpot.getMapY());
+            detailDto.setNearSpots(getNearSpots(tourSpot));
+            withStats(detailDto);
+            tourSpotDetailCache.put(tourSpot.getContentId(), detailDto);
+            return detailDto;
+        } catch (TourApiUnavailableException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("API 호출 중 오류 ({}): {}", logLabel, e.getMessage());
-            throw new RuntimeException("API 호출 실패: " + logLabel);
+            throw new RuntimeException("상세 정보를 가져오지 못했습니다.");
         }
     }
 
+    // 다른 노드가 저장한 상세 정보 조회 (아직 없으면 null)
+    private TourSpotDetailDto readSavedDetail(String tourSpotId) {
+        TourSpotDetailDto cached = tourSpotDetailCache.peek(tourSpotId);
+        return cached != null ? cached : loadStoredDetail(tourSpotId);
+    }
+
+    // ES에 저장된 상세 정보와 통계로 응답 생성 (상세 정보가 없으면 null, 캐시 갱신에도 사용)
+    private TourSpotDetailDto loadStoredDetail(String tourSpotId) {
+        return tourSpotsRepository.findByContentId(tourSpotId)
+                .filter(TourSpotService::hasDetail)
+                .map(tourSpot -> withStats(toDetailDto(tourSpot)))
+                .orElse(null);
+    }
+
+    // ES에 저장된 상세 정보로 응답 생성 (대표 이미지를 맨 앞에)
+    private TourSpotDetailDto toDetailDto(TourSpots tourSpot) {
+        TourSpotDetailDto result = convertToDto(tourSpot, tourSpot.getDetail());
+        if (!tourSpot.getFirstImage().isEmpty()) result.getImages().add(0, tourSpot.getFirstImage());
+        return result;
+    }
+
+    // 통계 데이터 추가 (리뷰/북마크 변경 시 상세 캐시가 무효화되므로 함께 캐시)
+    private TourSpotDetailDto withStats(TourSpotDetailDto detailDto) {
+        TourSpotStats stats = fetchStats(detailDto.getContentId());
+        detailDto.setBookmarkCount(stats.getBookmarkCount());
+        return detailDto;
+    }
+
     // 상세정보 엘라스틱 서치에 저장하기
-    private void saveDetailToElasticsearch(String spotId, TourSpotDetailDto detailDto) {
-        UpdateQuery updateQuery = UpdateQuery.builder(spotId)
+    private void saveDetailToElasticsearch(TourSpots tourSpot, TourSpotDetailDto detailDto) {
+        UpdateQuery updateQuery = UpdateQuery.builder(tourSpot.getId())
                 .withDocument(Document.from(Map.of(
+                        // TourAPI가 빈 값(null)으로 응답한 항목도 빈 문자열로 저장해 상세 정보 저장 여부를 남김
                         "detail", Map.of(
-                                "images", detailDto.getImages(),
-                                "overview", detailDto.getOverview(),
-                                "info_center", detailDto.getInfoCenter(),
-                                "homepage", detailDto.getHomepage(),
-                                "use_time", detailDto.getUseTime(),
-                                "parking", detailDto.getParking()
+                                "images", Objects.requireNonNullElse(detailDto.getImages(), List.of()),
+                                "overview", Objects.requireNonNullElse(detailDto.getOverview(), ""),
+                                "info_center", Objects.requireNonNullElse(detailDto.getInfoCenter(), ""),
+                                "homepage", Objects.requireNonNullElse(detailDto.getHomepage(), ""),
+                                "use_time", Objects.requireNonNullElse(detailDto.getUseTime(), ""),
+                                "parking", Objects.requireNonNullElse(detailDto.getParking(), "")
                         )
                 )))
                 .build();
         elasticsearchOperations.update(updateQuery, IndexCoordinates.of(INDEX_NAME));
-        log.info("관광지 {} 상세 정보 저장 완료", spotId);
-    }
-
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> extractItem(Map<String, Object> response) {
-        try {
-            Map<String, Object> body = (Map<String, Object>) response.get("response");
-            Map<String, Object> items = (Map<String, Object>) ((Map<String, Object>) body.get("body")).get("items");
-            List<Map<String, Object>> itemList = (List<Map<String, Object>>) items.get("item");
-            return itemList.get(0);
-        } catch (Exception e) {
-            log.error("아이템 추출 실패: {}", e.getMessage());
-            return Collections.emptyMap();
-        }
-    }
-
-    @SuppressWarnings("unchecked")
-    private List<Map<String, Object>> extractItems(Map<String, Object> response) {
-        try {
-            Map<String, Object> body = (Map<String, Object>) response.get("response");
-            Map<String, Object> items = (Map<String, Object>) ((Map<String, Object>) body.get("body")).get("items");
-            return (List<Map<String, Object>>) items.get("item");
-        } catch (Exception e) {
-            log.error("이미지 목록 추출 실패: {}", e.getMessage());
-            return Collections.emptyList();
-        }
+        tourSpotDetailCache.invalidate(tourSpot.getContentId());
+        log.info("관광지 {} 상세 정보 저장 완료", tourSpot.getId());
     }
 
     // 단일 관광지의 리뷰/북마크 통계 조회
@@ -280,8 +204,31 @@ public class TourSpotService {
                 avgRating != null ? avgRating : 0.0, bookmarkCount != null ? bookmarkCount : 0);
     }
 
+    // 미리 계산된 가까운 관광지 사용 (아직 계산되지 않은 관광지만 직접 조회)
+    private List<TourSpotListDto> getNearSpots(TourSpots tourSpot) {
+        if (tourSpot.getNearSpots() != null) {
+            return tourSpot.getNearSpots().stream()
+                    .map(TourSpots.NearSpot::convertToSimpleDto)
+                    .collect(Collectors.toList());
+        }
+        return findNearestTourSpots(tourSpot.getLocation(), tourSpot.getContentId());
+    }
+
     // GeoPoint로 가까운 TourSpots 10개 가져오기
     public List<TourSpotListDto> findNearestTourSpots(GeoPoint point, String exceptId) {
+        Query query = createNearestQuery(point, exceptId);
+        SearchHits<TourSpots> searchHits = elasticsearchOperations.search(query, TourSpots.class);
+        if (searchHits.isEmpty()) {
+            log.debug("No tour spots found near lat: {}, lon: {}", point.getLat(), point.getLon());
+            return Collections.emptyList();
+        }
+        return searchHits.getSearchHits().stream()
+                .map(this::mapToMinimalDto)
+                .collect(Collectors.toList());
+    }
+
+    // 가까운 관광지 조회 쿼리 (50km 이내, 거리순 10개)
+    public static Query createNearestQuery(GeoPoint point, String exceptId) {
         Pageable pageable = PageRequest.of(0, 10);
         GeoDistanceSortBuilder geoSort = SortBuilders.geoDistanceSort("location", point.getLat(), point.getLon())
                 .order(SortOrder.ASC)
@@ -291,19 +238,12 @@ public class TourSpotService {
                         .point(point.getLat(), point.getLon())
                         .distance(50, DistanceUnit.KILOMETERS))
                 .mustNot(QueryBuilders.termQuery("content_id", exceptId));
-        Query query = new NativeSearchQueryBuilder()
+        return new NativeSearchQueryBuilder()
                 .withQuery(boolQuery)
                 .withSorts(geoSort)
                 .withPageable(pageable)
+                .withSourceFilter(new FetchSourceFilter(new String[]{"content_id", "title", "first_image"}, null))
                 .build();
-        SearchHits<TourSpots> searchHits = elasticsearchOperations.search(query, TourSpots.class);
-        if (searchHits.isEmpty()) {
-            log.debug("No tour spots found near lat: {}, lon: {}", point.getLat(), point.getLon());
-            return Collections.emptyList();
-        }
-        return searchHits.getSearchHits().stream()
-                .map(this::mapToMinimalDto)
-                .collect(Collectors.toList());
     }
 
     private TourSpotDetailDto convertToDto(TourSpots tourSpot, TourSpots.Detail detail) {
@@ -319,7 +259,7 @@ public class TourSpotService {
                 .parking(detail.getParking())
                 .mapX(tourSpot.getMapX())
                 .mapY(tourSpot.getMapY())
-                .nearSpots(findNearestTourSpots(tourSpot.getLocation(), tourSpot.getContentId()))
+                .nearSpots(getNearSpots(tourSpot))
                 .build(); // 통계 데이터는 여기서 설정하지 않음
     }
 
@@ -0,0 +1,250 @@
+package com.springboot.gotgam.service;
+
+import com.springboot.gotgam.dto.tourspot.TourSpotListDto;
+import com.springboot.gotgam.entity.elasticsearch.TourSpots;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 관광지 제목 자동완성 서비스
+ * 시작 시 tour_spots 인덱스의 제목을 읽어 JVM 내부의 정렬된 접두어 색인을 만들고,
+ * 검색어 입력마다 ES를 거치지 않고 이진 탐색으로 후보를 찾습니다.
+ * 제목 전체, 단어 시작 위치, 초성(ㄱㄴㄷ) 키를 모두 색인하므로 "경복", "ㄱㅂㄱ" 모두 "경복궁"을 찾을 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TourSpotSuggestService {
+    private static final int MAX_CANDIDATES = 200;
+    private static final DateTimeFormatter MODIFIED_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    // 관광지 ID -> 제목 (색인 재생성용 원본, 조회에는 사용하지 않음)
+    private final Map<String, String> titles = new ConcurrentHashMap<>();
+    // 조회용 색인 (갱신 시 통째로 교체)
+    private volatile SuggestIndex index = SuggestIndex.EMPTY;
+    // 마지막으로 반영한 수정일
+    private volatile LocalDateTime lastModified;
+
+    /**
+     * 검색어 접두어로 관광지 제목 후보 조회
+     *
+     * @param prefix 입력 중인 검색어 (초성만 입력해도 됨)
+     * @param size 최대 결과 수
+     * @return 관광지 ID, 제목 목록
+     */
+    public List<TourSpotListDto> suggest(String prefix, int size) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || size <= 0) {
+            return List.of();
+        }
+        SuggestIndex current = index;
+
+        // 접두어가 일치하는 구간을 이진 탐색으로 찾은 뒤 후보 수집
+        Map<Integer, Boolean> candidates = new LinkedHashMap<>(); // 참조 -> 제목 처음부터 일치 여부
+        for (int i = current.lowerBound(key); i < current.keys.length && candidates.size() < MAX_CANDIDATES; i++) {
+            if (!current.keys[i].startsWith(key)) {
+                break;
+            }
+            candidates.merge(current.refs[i], current.fromStart[i], Boolean::logicalOr);
+        }
+
+        // 제목 처음부터 일치하는 것 우선, 그다음 짧은 제목 우선
+        return candidates.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<Integer, Boolean>, Boolean>comparing(Map.Entry::getValue).reversed()
+                        .thenComparingInt(e -> current.titles[e.getKey()].length()))
+                .limit(size)
+                .map(e -> TourSpotListDto.builder()
+                        .spotId(current.ids[e.getKey()])
+                        .title(current.titles[e.getKey()])
+                        .build())
+                .toList();
+    }
+
+    // 시작 시 전체 적재
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        reload();
+    }
+
+    // 매일 새벽 전체 재적재 (삭제된 관광지 정리, 조회 실패 시 기존 색인 유지)
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public synchronized void reload() {
+        Map<String, String> loaded = new HashMap<>();
+        LocalDateTime maxModified;
+        try {
+            maxModified = readTitles(QueryBuilders.matchAllQuery(), loaded, null);
+        } catch (Exception e) {
+            log.error("자동완성 색인 적재 실패, 기존 색인 유지: {}", e.getMessage());
+            return;
+        }
+        titles.clear();
+        titles.putAll(loaded);
+        lastModified = maxModified;
+        rebuild();
+        log.info("자동완성 색인 적재 완료: {}건, 키 {}개", titles.size(), index.keys.length);
+    }
+
+    // 수정일 기준 증분 갱신 (아직 전체 적재에 성공하지 못했으면 전체 적재)
+    @Scheduled(fixedDelayString = "${search.suggest.refresh-ms:600000}", initialDelayString = "${search.suggest.refresh-ms:600000}")
+    public synchronized void refresh() {
+        if (lastModified == null) {
+            reload();
+            return;
+        }
+        Map<String, String> changed = new HashMap<>();
+        LocalDateTime maxModified;
+        try {
+            maxModified = readTitles(QueryBuilders.rangeQuery("modified_time")
+                    .gt(lastModified.format(MODIFIED_TIME_FORMAT)), changed, lastModified);
+        } catch (Exception e) {
+            log.error("자동완성 색인 증분 갱신 실패: {}", e.getMessage());
+            return;
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        titles.putAll(changed);
+        lastModified = maxModified;
+        rebuild();
+        log.info("자동완성 색인 증분 갱신: {}건", changed.size());
+    }
+
+    // 관광지 ID, 제목만 스크롤로 읽어옴 (조회 실패 시 예외, 일부만 읽은 결과는 사용하지 않음)
+    private LocalDateTime readTitles(QueryBuilder queryBuilder, Map<String, String> target, LocalDateTime since) {
+        Query query = new NativeSearchQueryBuilder()
+                .withQuery(queryBuilder)
+                .withSourceFilter(new FetchSourceFilter(new String[]{"content_id", "title", "modified_time"}, null))
+                .build();
+
+        LocalDateTime maxModified = since;
+        try (SearchHitsIterator<TourSpots> it = elasticsearchOperations.searchForStream(query, TourSpots.class)) {
+            while (it.hasNext()) {
+                TourSpots spot = it.next().getContent();
+                if (spot.getContentId() == null || spot.getTitle() == null) {
+                    continue;
+                }
+                target.put(spot.getContentId(), spot.getTitle());
+                LocalDateTime modified = spot.getModifiedTime();
+                if (modified != null && (maxModified == null || modified.isAfter(maxModified))) {
+                    maxModified = modified.truncatedTo(ChronoUnit.SECONDS);
+                }
+            }
+        }
+        return maxModified;
+    }
+
+    // 제목 목록으로 정렬된 접두어 색인 재생성
+    private void rebuild() {
+        String[] ids = titles.keySet().toArray(new String[0]);
+        String[] titleArray = new String[ids.length];
+        List<IndexEntry> entries = new ArrayList<>();
+        for (int ref = 0; ref < ids.length; ref++) {
+            titleArray[ref] = titles.get(ids[ref]);
+            for (Map.Entry<String, Boolean> key : createKeys(titleArray[ref]).entrySet()) {
+                entries.add(new IndexEntry(key.getKey(), ref, key.getValue()));
+            }
+        }
+        entries.sort(Comparator.comparing(IndexEntry::key));
+
+        String[] keys = new String[entries.size()];
+        int[] refs = new int[entries.size()];
+        boolean[] fromStart = new boolean[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            keys[i] = entries.get(i).key();
+            refs[i] = entries.get(i).ref();
+            fromStart[i] = entries.get(i).fromStart();
+        }
+        index = new SuggestIndex(keys, refs, fromStart, ids, titleArray);
+    }
+
+    // 제목 전체와 각 단어 시작 위치부터의 문자열, 그리고 각각의 초성 키 생성 (키 -> 제목 처음부터인지 여부)
+    private Map<String, Boolean> createKeys(String title) {
+        Map<String, Boolean> keys = new HashMap<>();
+        String[] words = title.trim().split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            String key = normalize(String.join("", Arrays.copyOfRange(words, i, words.length)));
+            if (!key.isEmpty()) {
+                keys.merge(key, i == 0, Boolean::logicalOr);
+                keys.merge(toChosung(key), i == 0, Boolean::logicalOr);
+            }
+        }
+        return keys;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+    }
+
+    // 한글 음절을 초성으로 변환 (그 외 문자는 그대로)
+    private static String toChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            if (c >= '가' && c <= '힣') {
+                sb.append(CHOSUNG[(c - '가') / 588]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private record IndexEntry(String key, int ref, boolean fromStart) {}
+
+    // 정렬된 키 배열과 관광지 참조 (불변)
+    private static class SuggestIndex {
+        static final SuggestIndex EMPTY = new SuggestIndex(new String[0], new int[0], new boolean[0], new String[0], new String[0]);
+
+        final String[] keys;
+        final int[] refs;
+        final boolean[] fromStart;
+        final String[] ids;
+        final String[] titles;
+
+        SuggestIndex(String[] keys, int[] refs, boolean[] fromStart, String[] ids, String[] titles) {
+            this.keys = keys;
+            this.refs = refs;
+            this.fromStart = fromStart;
+            this.ids = ids;
+            this.titles = titles;
+        }
+
+        // key 이상인 첫 위치
+        int lowerBound(String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.springboot.gotgam.service;
+
+import com.springboot.gotgam.repository.BookmarkRepository;
+import com.springboot.gotgam.repository.MemberRepository;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.functionscore.FunctionScoreQueryBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SearchServiceTest {
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new SearchService(mock(ElasticsearchOperations.class), mock(MemberRepository.class),
+                mock(BookmarkRepository.class), mock(SearchCacheService.class), mock(SearchRequestCoalescer.class),
+                mock(SearchMetrics.class));
+    }
+
+    @Test
+    void createTourSpotCursorQuery_appliesPopularityScoreForPopularSort() {
+        Query query = searchService.createTourSpotCursorQuery(null, 20, "popular", "경복궁", null, null, null, null);
+
+        // 페이지 검색(createTourSpotListQuery)과 같은 function_score로 감싸고, 점수 순 + content_id 순으로 정렬
+        assertThat(((NativeSearchQuery) query).getQuery()).isInstanceOf(FunctionScoreQueryBuilder.class);
+        assertThat(query.getPageable().getSort()).containsExactly(Sort.Order.desc("_score"), Sort.Order.asc("content_id"));
+        assertThat(query.getPageable().getPageSize()).isEqualTo(21);
+    }
+
+    @Test
+    void createTourSpotCursorQuery_keepsPlainQueryForOtherSorts() {
+        Query query = searchService.createTourSpotCursorQuery(null, 20, "title,asc", "경복궁", null, null, null, null);
+
+        assertThat(((NativeSearchQuery) query).getQuery()).isInstanceOf(BoolQueryBuilder.class);
+        assertThat(query.getPageable().getSort()).containsExactly(Sort.Order.asc("sort_title"), Sort.Order.asc("content_id"));
+    }
+}
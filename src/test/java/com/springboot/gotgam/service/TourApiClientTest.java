@@ -0,0 +1,183 @@
+package com.springboot.gotgam.service;
+
+import com.springboot.gotgam.dto.tourspot.TourSpotDetailDto;
+import com.springboot.gotgam.exception.TourApiUnavailableException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class TourApiClientTest {
+    private HttpServer server;
+    private ExecutorService executor;
+    private String baseUrl;
+    private TourApiKeyPool keyPool;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        executor = Executors.newFixedThreadPool(4);
+        server.setExecutor(executor);
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+        keyPool = mock(TourApiKeyPool.class);
+        when(keyPool.acquire()).thenReturn(lease("k1"), lease("k2"), lease("k3"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void fetchDetail_callsThreeApisConcurrently() {
+        // 세 요청이 모두 도착해야 응답하므로, 순차 호출이면 제한 시간 안에 끝나지 않음
+        CountDownLatch allArrived = new CountDownLatch(3);
+        server.createContext("/detailCommon1", exchange -> respondAfter(allArrived, exchange,
+                items("{\"title\":\"경복궁\",\"overview\":\"조선 왕조의 법궁\",\"homepage\":\"https://royal.khs.go.kr\"}")));
+        server.createContext("/detailImage1", exchange -> respondAfter(allArrived, exchange,
+                items("{\"originimgurl\":\"a.jpg\"},{\"originimgurl\":\"b.jpg\"}")));
+        server.createContext("/detailIntro1", exchange -> respondAfter(allArrived, exchange,
+                items("{\"infocenter\":\"02-3700-3900\",\"usetime\":\"09:00~18:00\",\"parking\":\"가능\"}")));
+        server.start();
+
+        TourApiClient client = new TourApiClient(baseUrl, keyPool, 1000, 2000);
+        TourSpotDetailDto detail = client.fetchDetail("126508", "12");
+
+        assertThat(detail.getContentId()).isEqualTo("126508");
+        assertThat(detail.getTitle()).isEqualTo("경복궁");
+        assertThat(detail.getImages()).isEqualTo(List.of("a.jpg", "b.jpg"));
+        assertThat(detail.getInfoCenter()).isEqualTo("02-3700-3900");
+        assertThat(detail.getUseTime()).isEqualTo("09:00~18:00");
+        assertThat(detail.getParking()).isEqualTo("가능");
+        verify(keyPool, timeout(1000).times(3)).recordSuccess(any());
+    }
+
+    @Test
+    void fetchDetail_failsWhenApiDoesNotAnswerInTime() {
+        server.createContext("/detailCommon1", exchange -> respond(exchange, items("{\"title\":\"경복궁\"}")));
+        server.createContext("/detailImage1", exchange -> respondAfter(new CountDownLatch(2), exchange, items("")));
+        server.createContext("/detailIntro1", exchange -> respond(exchange, items("{}")));
+        server.start();
+
+        TourApiClient client = new TourApiClient(baseUrl, keyPool, 1000, 300);
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> client.fetchDetail("126508", "12"))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+        verify(keyPool, timeout(1000)).recordFailure(any());
+    }
+
+    @Test
+    void fetchDetail_failsFastWhenNoKeyIsAvailable() {
+        CountDownLatch called = new CountDownLatch(1);
+        server.createContext("/", exchange -> {
+            called.countDown();
+            respond(exchange, items("{}"));
+        });
+        server.start();
+        when(keyPool.acquire()).thenThrow(new TourApiUnavailableException("사용 가능한 TourAPI 키가 없습니다."));
+
+        TourApiClient client = new TourApiClient(baseUrl, keyPool, 1000, 2000);
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> client.fetchDetail("126508", "12"))
+                .isInstanceOf(TourApiUnavailableException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(500);
+        assertThat(called.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void fetchDetail_sendsNothingWhenOnlySomeKeysAreAvailable() {
+        CountDownLatch called = new CountDownLatch(1);
+        server.createContext("/", exchange -> {
+            called.countDown();
+            respond(exchange, items("{}"));
+        });
+        server.start();
+        when(keyPool.acquire()).thenReturn(lease("k1"))
+                .thenThrow(new TourApiUnavailableException("사용 가능한 TourAPI 키가 없습니다."));
+
+        TourApiClient client = new TourApiClient(baseUrl, keyPool, 1000, 2000);
+
+        assertThatThrownBy(() -> client.fetchDetail("126508", "12"))
+                .isInstanceOf(TourApiUnavailableException.class);
+        assertThat(called.getCount()).isEqualTo(1);
+        verify(keyPool).release(lease("k1"), true);
+    }
+
+    @Test
+    void fetchDetail_marksKeyExhaustedOnQuotaResponse() {
+        String quotaError = "<OpenAPI_ServiceResponse><cmmMsgHeader><returnAuthMsg>LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR</returnAuthMsg></cmmMsgHeader></OpenAPI_ServiceResponse>";
+        server.createContext("/detailCommon1", exchange -> respond(exchange, items("{\"title\":\"경복궁\"}")));
+        server.createContext("/detailImage1", exchange -> respond(exchange, quotaError));
+        server.createContext("/detailIntro1", exchange -> respond(exchange, items("{}")));
+        server.start();
+
+        TourApiClient client = new TourApiClient(baseUrl, keyPool, 1000, 2000);
+
+        assertThatThrownBy(() -> client.fetchDetail("126508", "12"))
+                .isInstanceOf(RuntimeException.class);
+        verify(keyPool, timeout(1000)).markExhausted(lease("k2"));
+    }
+
+    @Test
+    void fetchDetail_recordsFailureOnAuthErrorResponse() {
+        String authError = "<OpenAPI_ServiceResponse><cmmMsgHeader><errMsg>SERVICE ERROR</errMsg><returnAuthMsg>SERVICE_KEY_IS_NOT_REGISTERED_ERROR</returnAuthMsg><returnReasonCode>30</returnReasonCode></cmmMsgHeader></OpenAPI_ServiceResponse>";
+        server.createContext("/detailCommon1", exchange -> respond(exchange, items("{\"title\":\"경복궁\"}")));
+        server.createContext("/detailImage1", exchange -> respond(exchange, items("")));
+        server.createContext("/detailIntro1", exchange -> respond(exchange, authError));
+        server.start();
+
+        TourApiClient client = new TourApiClient(baseUrl, keyPool, 1000, 2000);
+
+        assertThatThrownBy(() -> client.fetchDetail("126508", "12"))
+                .isInstanceOf(RuntimeException.class);
+        verify(keyPool, timeout(1000)).recordFailure(lease("k3"));
+        verify(keyPool, never()).recordSuccess(lease("k3"));
+    }
+
+    private static TourApiKeyPool.Lease lease(String key) {
+        return new TourApiKeyPool.Lease(key, 0, false);
+    }
+
+    // 다른 요청이 모두 도착할 때까지(최대 3초) 기다린 후 응답
+    private static void respondAfter(CountDownLatch latch, HttpExchange exchange, String body) throws IOException {
+        latch.countDown();
+        try {
+            latch.await(3, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        respond(exchange, body);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private static String items(String itemsJson) {
+        return "{\"response\":{\"body\":{\"items\":{\"item\":[" + itemsJson + "]}}}}";
+    }
+}